@@ -0,0 +1,78 @@
+package com.nithack.clientService.benchmark;
+
+import com.nithack.clientService.application.dto.ClientDTO;
+import com.nithack.clientService.domain.entity.AddressEntity;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.infra.database.model.AddressModel;
+import com.nithack.clientService.infra.database.model.ClientModel;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Dados de exemplo compartilhados pelos benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+        throw new RuntimeException("Util Class");
+    }
+
+    static ClientEntity clientEntity(int index) {
+        return ClientEntity.builder()
+                .id(UUID.randomUUID())
+                .name("Client " + index)
+                .cpf(cpf(index))
+                .phone(String.format("19%09d", index))
+                .dateOfBirth(LocalDate.of(1990, 1, 1).plusDays(index % 10_000))
+                .address(AddressEntity.builder()
+                        .id(UUID.randomUUID())
+                        .city("Campinas")
+                        .state("SP")
+                        .street("Rua 13 de Abril, " + index)
+                        .postalCode("13020020")
+                        .build())
+                .createdAt(LocalDate.now())
+                .updatedAt(LocalDate.now())
+                .build();
+    }
+
+    static ClientModel clientModel(int index) {
+        ClientEntity entity = clientEntity(index);
+        return ClientModel.builder()
+                .id(entity.getId())
+                .name(entity.getName())
+                .cpf(entity.getCpf())
+                .phone(entity.getPhone())
+                .dateOfBirth(entity.getDateOfBirth())
+                .address(AddressModel.builder()
+                        .id(entity.getAddress().getId())
+                        .city(entity.getAddress().getCity())
+                        .state(entity.getAddress().getState())
+                        .street(entity.getAddress().getStreet())
+                        .postalCode(entity.getAddress().getPostalCode())
+                        .build())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+
+    static ClientDTO clientDTO(int index) {
+        ClientEntity entity = clientEntity(index);
+        return ClientDTO.builder()
+                .id(entity.getId())
+                .name(entity.getName())
+                .cpf(entity.getCpf())
+                .phone(entity.getPhone())
+                .dateOfBirth(entity.getDateOfBirth())
+                .city(entity.getAddress().getCity())
+                .state(entity.getAddress().getState())
+                .street(entity.getAddress().getStreet())
+                .postalCode(entity.getAddress().getPostalCode())
+                .build();
+    }
+
+    static String cpf(int index) {
+        return String.format("%011d", index);
+    }
+}
@@ -0,0 +1,66 @@
+package com.nithack.clientService.benchmark;
+
+import com.nithack.clientService.application.dto.ClientDTO;
+import com.nithack.clientService.application.mapper.ClientMapper;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.infra.database.model.ClientModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de cada conversão do {@link ClientMapper} e do caminho completo de leitura (model → entity → DTO).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientMapperBenchmark {
+
+    private ClientModel clientModel;
+    private ClientEntity clientEntity;
+    private ClientDTO clientDTO;
+
+    @Setup
+    public void setUp() {
+        clientModel = BenchmarkFixtures.clientModel(1);
+        clientEntity = BenchmarkFixtures.clientEntity(1);
+        clientDTO = BenchmarkFixtures.clientDTO(1);
+    }
+
+    @Benchmark
+    public ClientModel toModel() {
+        return ClientMapper.toModel(clientEntity);
+    }
+
+    @Benchmark
+    public ClientEntity modelToEntity() {
+        return ClientMapper.toEntity(clientModel);
+    }
+
+    @Benchmark
+    public ClientEntity dtoToEntity() {
+        return ClientMapper.toEntity(clientDTO);
+    }
+
+    @Benchmark
+    public ClientDTO toDTO() {
+        return ClientMapper.toDTO(clientEntity);
+    }
+
+    @Benchmark
+    public ClientDTO readPath() {
+        return ClientMapper.toDTO(ClientMapper.toEntity(clientModel));
+    }
+}
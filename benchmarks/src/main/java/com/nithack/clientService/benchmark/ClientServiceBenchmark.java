@@ -0,0 +1,71 @@
+package com.nithack.clientService.benchmark;
+
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.services.ClientServiceAdapter;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Overhead do {@link ClientServiceAdapter} (logs, parse de UUID, cópias) sobre um port de dados em memória.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientServiceBenchmark {
+
+    @Param({"10000"})
+    private int clients;
+
+    private ClientServiceAdapter clientService;
+    private String[] ids;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        InMemoryClientDataService clientDataService = new InMemoryClientDataService();
+        ids = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            ClientEntity client = BenchmarkFixtures.clientEntity(i);
+            clientDataService.save(client);
+            ids[i] = client.getId().toString();
+        }
+        sequence.set(clients);
+        clientService = new ClientServiceAdapter(clientDataService);
+    }
+
+    @Benchmark
+    public Optional<ClientView> findById() {
+        return clientService.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    public ClientPage<ClientView> findFirstPage() {
+        return clientService.findPage(null, 50);
+    }
+
+    @Benchmark
+    public ClientEntity create() {
+        ClientEntity client = BenchmarkFixtures.clientEntity(sequence.getAndIncrement());
+        client.setId(null);
+        return clientService.create(client);
+    }
+}
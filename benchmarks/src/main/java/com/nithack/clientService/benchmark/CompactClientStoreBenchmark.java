@@ -0,0 +1,65 @@
+package com.nithack.clientService.benchmark;
+
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.mapper.ClientMapper;
+import com.nithack.clientService.infra.replica.CompactClientStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca por ID na réplica compacta ({@link CompactClientStore}) comparada a um {@link HashMap} de {@link ClientView}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactClientStoreBenchmark {
+
+    @Param({"100000"})
+    private int clients;
+
+    private CompactClientStore store;
+    private Map<UUID, ClientView> map;
+    private UUID[] ids;
+
+    @Setup
+    public void setUp() {
+        store = new CompactClientStore(clients);
+        map = new HashMap<>();
+        ids = new UUID[clients];
+        for (int i = 0; i < clients; i++) {
+            ClientView client = ClientMapper.toView(BenchmarkFixtures.clientEntity(i));
+            store.put(client);
+            map.put(client.getId(), client);
+            ids[i] = client.getId();
+        }
+    }
+
+    @Benchmark
+    public Optional<ClientView> compactFindById() {
+        return store.find(ids[ThreadLocalRandom.current().nextInt(clients)]);
+    }
+
+    @Benchmark
+    public Optional<ClientView> heapMapFindById() {
+        return Optional.ofNullable(map.get(ids[ThreadLocalRandom.current().nextInt(clients)]));
+    }
+}
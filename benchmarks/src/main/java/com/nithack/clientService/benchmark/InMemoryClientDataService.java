@@ -0,0 +1,148 @@
+package com.nithack.clientService.benchmark;
+
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.mapper.ClientMapper;
+import com.nithack.clientService.application.port.ClientDataServicePort;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientCursor;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ClientDataServicePort} em memória, usado para medir o service sem banco de dados.
+ * As leituras devolvem um {@link ClientView} novo por cliente, como a projeção feita pela consulta.
+ */
+class InMemoryClientDataService implements ClientDataServicePort {
+
+    private static final Comparator<ClientCursor> KEYSET_ORDER = Comparator
+            .comparing(ClientCursor::getCreatedAt)
+            .thenComparing(ClientCursor::getId);
+
+    private final Map<UUID, ClientEntity> clientsById = new ConcurrentHashMap<>();
+    private final Map<String, UUID> idsByCpf = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<ClientCursor, ClientEntity> clientsByKeyset = new ConcurrentSkipListMap<>(KEYSET_ORDER);
+
+    @Override
+    public long deleteReturningCount(UUID clientId, Long expectedVersion) {
+        ClientEntity current = clientsById.get(clientId);
+        if (current == null || (expectedVersion != null && !expectedVersion.equals(current.getVersion()))) {
+            return 0;
+        }
+        ClientEntity removed = clientsById.remove(clientId);
+        idsByCpf.remove(removed.getCpf());
+        clientsByKeyset.remove(new ClientCursor(removed.getCreatedAt(), removed.getId()));
+        return 1;
+    }
+
+    @Override
+    public ClientPage<ClientView> findPage(ClientCursor after, int limit) {
+        return search(new ClientQuery(), after, limit);
+    }
+
+    @Override
+    public ClientPage<ClientView> search(ClientQuery query, ClientCursor after, int limit) {
+        Map<ClientCursor, ClientEntity> tail = after == null ? clientsByKeyset : clientsByKeyset.tailMap(after, false);
+        List<ClientView> clients = tail.values().stream()
+                .filter(client -> matches(query, client))
+                .limit(limit + 1L)
+                .map(ClientMapper::toView)
+                .toList();
+        if (clients.size() <= limit) {
+            return new ClientPage<>(clients, null);
+        }
+        ClientView last = clients.get(limit - 1);
+        return new ClientPage<>(clients.subList(0, limit), new ClientCursor(last.getCreatedAt(), last.getId()));
+    }
+
+    private static boolean matches(ClientQuery query, ClientEntity client) {
+        return (query.getNamePrefix() == null || client.getName().toLowerCase().startsWith(query.getNamePrefix().toLowerCase()))
+                && (query.getState() == null || query.getState().equals(client.getAddress().getState()))
+                && (query.getCity() == null || query.getCity().equals(client.getAddress().getCity()))
+                && (query.getPostalCode() == null || query.getPostalCode().equals(client.getAddress().getPostalCode()))
+                && (query.getBornFrom() == null || !client.getDateOfBirth().isBefore(query.getBornFrom()))
+                && (query.getBornTo() == null || !client.getDateOfBirth().isAfter(query.getBornTo()));
+    }
+
+    @Override
+    public void streamAll(Consumer<ClientView> consumer) {
+        clientsByKeyset.values().forEach(client -> consumer.accept(ClientMapper.toView(client)));
+    }
+
+    @Override
+    public Optional<ClientView> findById(UUID clientId) {
+        return Optional.ofNullable(clientsById.get(clientId)).map(ClientMapper::toView);
+    }
+
+    @Override
+    public Map<UUID, ClientView> findAllByIds(Collection<UUID> clientIds) {
+        return clientIds.stream().distinct().map(clientsById::get).filter(Objects::nonNull)
+                .collect(Collectors.toMap(ClientEntity::getId, ClientMapper::toView));
+    }
+
+    @Override
+    public ClientChangePage<ClientChangeView> findChanges(ClientChangeCursor after, int limit) {
+        return new ClientChangePage<>(List.of(), after, false);
+    }
+
+    @Override
+    public ClientEntity save(ClientEntity client) {
+        if (client.getVersion() == null) {
+            client.setVersion(0L);
+        }
+        ClientEntity previous = clientsById.put(client.getId(), client);
+        if (previous != null) {
+            idsByCpf.remove(previous.getCpf());
+            clientsByKeyset.remove(new ClientCursor(previous.getCreatedAt(), previous.getId()));
+        }
+        idsByCpf.put(client.getCpf(), client.getId());
+        clientsByKeyset.put(new ClientCursor(client.getCreatedAt(), client.getId()), client);
+        return client;
+    }
+
+    @Override
+    public Optional<ClientEntity> updateReturning(ClientEntity client) {
+        ClientEntity current = clientsById.get(client.getId());
+        if (current == null || (client.getVersion() != null && !client.getVersion().equals(current.getVersion()))) {
+            return Optional.empty();
+        }
+        client.setCreatedAt(current.getCreatedAt());
+        client.setVersion(current.getVersion() + 1);
+        return Optional.of(save(client));
+    }
+
+    @Override
+    public List<ClientEntity> saveAll(List<ClientEntity> clients) {
+        return clients.stream().map(this::save).toList();
+    }
+
+    @Override
+    public boolean existsById(UUID clientId) {
+        return clientsById.containsKey(clientId);
+    }
+
+    @Override
+    public boolean existsByCpf(String cpf) {
+        return idsByCpf.containsKey(cpf);
+    }
+
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        return cpfs.stream().filter(idsByCpf::containsKey).collect(Collectors.toSet());
+    }
+}
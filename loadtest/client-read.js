@@ -0,0 +1,49 @@
+// Teste de carga de leitura: VUS conexões simultâneas (padrão 5000) fazendo GET /clients/{id}.
+// Uso: k6 run -e BASE_URL=http://localhost:3030 -e VUS=5000 -e DURATION=2m loadtest/client-read.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:3030';
+const SEED_CLIENTS = 1000;
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 5000),
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const suffix = Date.now() % 100000000;
+    const clients = [];
+    for (let i = 0; i < SEED_CLIENTS; i++) {
+        clients.push({
+            name: `Load Test ${i}`,
+            cpf: String(suffix * 1000 + i).padStart(11, '0').slice(-11),
+            phone: String(suffix * 1000 + i).padStart(11, '0'),
+            dateOfBirth: '1990-01-01',
+            city: 'Campinas',
+            state: 'SP',
+            street: 'Rua 13 de Abril',
+            postalCode: '13020020',
+        });
+    }
+    const response = http.post(`${BASE_URL}/clients/batch`, JSON.stringify({ clients }), {
+        headers: { 'Content-Type': 'application/json' },
+    });
+    return {
+        ids: response.json('results')
+            .filter((result) => result.status === 'CREATED')
+            .map((result) => result.client.id),
+    };
+}
+
+export default function (data) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const response = http.get(`${BASE_URL}/clients/${id}`);
+    check(response, { 'status is 200': (r) => r.status === 200 });
+}
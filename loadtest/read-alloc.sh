@@ -0,0 +1,37 @@
+#!/bin/sh
+# Mede a alocação de heap por requisição de leitura e as pausas de GC durante a carga.
+# Força um GC antes e depois (jcmd GC.run) para que jvm.gc.memory.allocated conte toda a alocação da rodada.
+# Uso: REQUESTS=2000 BASE_URL=http://localhost:3030 loadtest/read-alloc.sh <pid da JVM> <caminho>
+# Exemplos:
+#   loadtest/read-alloc.sh 12345 '/clients?size=50'
+#   loadtest/read-alloc.sh 12345 '/clients/01a14c95-e0e7-74fd-8058-d08bc5de8b2f'
+#   loadtest/read-alloc.sh 12345 '/clients/search?state=SP&city=Campinas&size=50'
+set -u
+
+PID=$1
+URL_PATH=$2
+REQUESTS=${REQUESTS:-2000}
+WARMUP=${WARMUP:-500}
+BASE_URL=${BASE_URL:-http://localhost:3030}
+
+metric() {
+    curl -sf "$BASE_URL/actuator/metrics/$1" | sed -n 's/.*"statistic":"'"$2"'","value":\([0-9.E]*\).*/\1/p'
+}
+
+requests() {
+    for _ in $(seq 1 "$1"); do
+        curl -sf -o /dev/null "$BASE_URL$URL_PATH" || exit 1
+    done
+}
+
+requests "$WARMUP"
+jcmd "$PID" GC.run > /dev/null
+allocated_before=$(metric jvm.gc.memory.allocated COUNT)
+pauses_before=$(metric jvm.gc.pause COUNT)
+requests "$REQUESTS"
+jcmd "$PID" GC.run > /dev/null
+allocated_after=$(metric jvm.gc.memory.allocated COUNT)
+pauses_after=$(metric jvm.gc.pause COUNT)
+
+awk -v a="$allocated_before" -v b="$allocated_after" -v pa="$pauses_before" -v pb="$pauses_after" -v n="$REQUESTS" \
+    'BEGIN { printf "alloc_kib_per_req=%.1f gc_pauses=%d\n", (b - a) / n / 1024, pb - pa - 1 }'
@@ -0,0 +1,33 @@
+#!/bin/sh
+# Mede o tempo até o /actuator/health responder UP e o RSS do processo nesse momento.
+# Uso: RUNS=5 BASE_URL=http://localhost:3030 loadtest/startup.sh <comando para subir a aplicação...>
+# Exemplos:
+#   loadtest/startup.sh java -jar target/client-service-0.0.1.jar
+#   loadtest/startup.sh java -XX:SharedArchiveFile=app.jsa -jar app.jar
+#   loadtest/startup.sh target/client-service
+set -u
+
+RUNS=${RUNS:-5}
+BASE_URL=${BASE_URL:-http://localhost:3030}
+
+now_ms() {
+    date +%s%3N
+}
+
+for run in $(seq 1 "$RUNS"); do
+    start=$(now_ms)
+    "$@" > /dev/null 2>&1 &
+    pid=$!
+    until curl -sf "$BASE_URL/actuator/health" 2>/dev/null | grep -q '"UP"'; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "run $run: process exited before becoming healthy" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    ready=$(now_ms)
+    rss_kb=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+    echo "run $run: ready_ms=$((ready - start)) rss_mb=$((rss_kb / 1024))"
+    kill "$pid"
+    wait "$pid" 2>/dev/null
+done
@@ -1,11 +1,15 @@
 package com.nithack.clientService;
 
+import com.nithack.clientService.infra.database.config.ClientViewRuntimeHints;
+import com.nithack.clientService.infra.logging.LogbackRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.context.annotation.PropertySource;
 
 @SpringBootApplication
 @PropertySource(value = "file:.env", ignoreResourceNotFound = true)
+@ImportRuntimeHints({LogbackRuntimeHints.class, ClientViewRuntimeHints.class})
 public class ClientServiceApiApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,19 @@
+package com.nithack.clientService.application.dto;
+
+import com.nithack.clientService.domain.entity.ClientBatchStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Resultado de um cliente do lote; {@code client} só é preenchido quando criado.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class ClientBatchItemDTO {
+    private int index;
+    private ClientBatchStatus status;
+    private ClientDTO client;
+    private String message;
+}
@@ -0,0 +1,27 @@
+package com.nithack.clientService.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Requisição de criação de clientes em lote.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientBatchRequestDTO {
+
+    public static final int MAX_BATCH_SIZE = 5000;
+
+    @NotEmpty(message = "At least one client is required")
+    @Size(max = MAX_BATCH_SIZE, message = "A batch can have a maximum of " + MAX_BATCH_SIZE + " clients")
+    private List<@Valid ClientDTO> clients;
+}
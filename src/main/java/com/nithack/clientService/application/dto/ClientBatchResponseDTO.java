@@ -0,0 +1,19 @@
+package com.nithack.clientService.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Resposta da criação em lote, com totais e o resultado de cada item.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class ClientBatchResponseDTO {
+    private int created;
+    private int conflicts;
+    private List<ClientBatchItemDTO> results;
+}
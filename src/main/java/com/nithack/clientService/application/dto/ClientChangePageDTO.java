@@ -0,0 +1,20 @@
+package com.nithack.clientService.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Página do feed de alterações retornada pela API; {@code next} é o token a enviar em {@code since}
+ * na próxima consulta.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class ClientChangePageDTO {
+    private List<ClientChangeView> changes;
+    private String next;
+    private boolean hasMore;
+}
@@ -0,0 +1,35 @@
+package com.nithack.clientService.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.nithack.clientService.domain.entity.ClientChangeType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Alteração de um cliente no feed, serializada direto na resposta de {@code GET /clients/changes}.
+ * {@code version} é a versão gerada pela alteração; {@code client} traz o estado atual do cliente
+ * e é nulo em lápides e em clientes já excluídos.
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClientChangeView {
+    ClientChangeType type;
+    UUID clientId;
+    Long version;
+    LocalDateTime changedAt;
+    ClientView client;
+
+    /**
+     * Posição da alteração no feed; usada apenas para montar o token da próxima página.
+     */
+    @JsonIgnore
+    long txId;
+
+    @JsonIgnore
+    long seq;
+}
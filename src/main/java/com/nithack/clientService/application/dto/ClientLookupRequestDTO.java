@@ -0,0 +1,28 @@
+package com.nithack.clientService.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Requisição de busca de vários clientes pelos IDs (multi-get).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientLookupRequestDTO {
+
+    public static final int MAX_LOOKUP_SIZE = 1000;
+
+    @NotEmpty(message = "At least one id is required")
+    @Size(max = MAX_LOOKUP_SIZE, message = "A lookup can have a maximum of " + MAX_LOOKUP_SIZE + " ids")
+    private List<@NotNull UUID> ids;
+}
@@ -0,0 +1,20 @@
+package com.nithack.clientService.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Resposta do multi-get: clientes encontrados indexados pelo ID e os IDs que não existem.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class ClientLookupResponseDTO {
+    private Map<UUID, ClientView> clients;
+    private List<UUID> missing;
+}
@@ -0,0 +1,18 @@
+package com.nithack.clientService.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Página de clientes retornada pela API, com o cursor opaco para a próxima página.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class ClientPageDTO {
+    private List<ClientView> content;
+    private String next;
+}
@@ -0,0 +1,37 @@
+package com.nithack.clientService.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projeção somente leitura de um cliente, montada direto da consulta (sem entidade gerenciada
+ * nem ClientEntity intermediário) e serializada nas respostas de leitura com o mesmo JSON de {@link ClientDTO}.
+ * A ordem dos campos define o construtor usado pelas consultas com {@code select new}.
+ */
+@Value
+public class ClientView {
+    UUID id;
+    String name;
+    String cpf;
+    String phone;
+    LocalDate dateOfBirth;
+    String city;
+    String state;
+    String street;
+    String postalCode;
+
+    /**
+     * Versão do cliente, exposta apenas no ETag.
+     */
+    @JsonIgnore
+    Long version;
+
+    /**
+     * Usado apenas para montar o cursor da próxima página; não faz parte da resposta.
+     */
+    @JsonIgnore
+    LocalDate createdAt;
+}
@@ -3,6 +3,10 @@ package com.nithack.clientService.application.exception;
 
 public class ClientAlreadyExistsException extends RuntimeException {
     public ClientAlreadyExistsException(String cpf) {
-        super("Client already exists with CPF: " + cpf);
+        this("CPF", cpf);
+    }
+
+    public ClientAlreadyExistsException(String field, String value) {
+        super("Client already exists with " + field + ": " + value);
     }
 }
@@ -0,0 +1,9 @@
+package com.nithack.clientService.application.exception;
+
+import java.util.UUID;
+
+public class ClientVersionMismatchException extends RuntimeException {
+    public ClientVersionMismatchException(UUID clientId, long expectedVersion) {
+        super("Client with id: " + clientId + " does not match expected version: " + expectedVersion);
+    }
+}
@@ -0,0 +1,8 @@
+package com.nithack.clientService.application.exception;
+
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor: " + cursor);
+    }
+}
@@ -0,0 +1,44 @@
+package com.nithack.clientService.application.mapper;
+
+import com.nithack.clientService.application.exception.InvalidCursorException;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Converte {@link ClientChangeCursor} em um token opaco (Base64 URL-safe) e vice-versa.
+ * Sem token, o feed começa da primeira alteração registrada.
+ */
+public class ClientChangeCursorMapper {
+
+    private static final String SEPARATOR = "|";
+    private static final ClientChangeCursor START = new ClientChangeCursor(0, 0);
+
+    private ClientChangeCursorMapper(){
+        throw new RuntimeException("Util Class");
+    }
+
+    public static String encode(ClientChangeCursor cursor) {
+        String raw = cursor.getTxId() + SEPARATOR + cursor.getSeq();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ClientChangeCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            ClientChangeCursor cursor = new ClientChangeCursor(Long.parseLong(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+            if (cursor.getTxId() < 0 || cursor.getSeq() < 0) {
+                throw new IllegalArgumentException("Negative change position");
+            }
+            return cursor;
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
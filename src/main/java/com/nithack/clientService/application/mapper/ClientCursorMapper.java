@@ -0,0 +1,45 @@
+package com.nithack.clientService.application.mapper;
+
+import com.nithack.clientService.application.exception.InvalidCursorException;
+import com.nithack.clientService.domain.entity.ClientCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Converte {@link ClientCursor} em um token opaco (Base64 URL-safe) e vice-versa.
+ */
+public class ClientCursorMapper {
+
+    private static final String SEPARATOR = "|";
+
+    private ClientCursorMapper(){
+        throw new RuntimeException("Util Class");
+    }
+
+    public static String encode(ClientCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.getCreatedAt() + SEPARATOR + cursor.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ClientCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return ClientCursor.builder()
+                    .createdAt(LocalDate.parse(raw.substring(0, separator)))
+                    .id(UUID.fromString(raw.substring(separator + 1)))
+                    .build();
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
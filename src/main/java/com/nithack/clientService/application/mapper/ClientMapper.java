@@ -1,13 +1,32 @@
 package com.nithack.clientService.application.mapper;
 
 
+import com.nithack.clientService.application.dto.ClientBatchItemDTO;
+import com.nithack.clientService.application.dto.ClientChangePageDTO;
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.dto.ClientBatchResponseDTO;
 import com.nithack.clientService.application.dto.ClientDTO;
+import com.nithack.clientService.application.dto.ClientLookupResponseDTO;
+import com.nithack.clientService.application.dto.ClientPageDTO;
+import com.nithack.clientService.application.dto.ClientView;
 import com.nithack.clientService.domain.entity.AddressEntity;
+import com.nithack.clientService.domain.entity.ClientBatchItem;
+import com.nithack.clientService.domain.entity.ClientBatchStatus;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientChangeType;
 import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
 import com.nithack.clientService.infra.database.model.AddressModel;
+import com.nithack.clientService.infra.database.model.ClientChangeRow;
 import com.nithack.clientService.infra.database.model.ClientModel;
+import com.nithack.clientService.infra.database.model.ClientRow;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 @Slf4j
 public class ClientMapper {
 
@@ -36,6 +55,7 @@ public class ClientMapper {
                 .address(addressModel)
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
+                .version(entity.getVersion())
                 .build();
     }
 
@@ -59,6 +79,31 @@ public class ClientMapper {
                 .address(addressEntity)
                 .createdAt(model.getCreatedAt())
                 .updatedAt(model.getUpdatedAt())
+                .version(model.getVersion())
+                .build();
+    }
+
+    public static ClientEntity toEntity(ClientRow row) {
+        if (row == null) {
+            return null;
+        }
+        var addressEntity = AddressEntity.builder()
+                .id(row.getAddressId())
+                .city(row.getCity())
+                .state(row.getState())
+                .street(row.getStreet())
+                .postalCode(row.getPostalCode())
+                .build();
+        return ClientEntity.builder()
+                .id(row.getId())
+                .cpf(row.getCpf())
+                .name(row.getName())
+                .dateOfBirth(row.getDateOfBirth())
+                .phone(row.getPhone())
+                .address(addressEntity)
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .version(row.getVersion())
                 .build();
     }
 
@@ -93,4 +138,110 @@ public class ClientMapper {
         dto.postalCode(entity.getAddress().getPostalCode());
         return dto.build();
     }
+
+    public static ClientView toView(ClientEntity entity) {
+        return new ClientView(
+                entity.getId(),
+                entity.getName(),
+                entity.getCpf(),
+                entity.getPhone(),
+                entity.getDateOfBirth(),
+                entity.getAddress().getCity(),
+                entity.getAddress().getState(),
+                entity.getAddress().getStreet(),
+                entity.getAddress().getPostalCode(),
+                entity.getVersion(),
+                entity.getCreatedAt());
+    }
+
+    public static ClientView toView(ClientRow row) {
+        return new ClientView(
+                row.getId(),
+                row.getName(),
+                row.getCpf(),
+                row.getPhone(),
+                row.getDateOfBirth(),
+                row.getCity(),
+                row.getState(),
+                row.getStreet(),
+                row.getPostalCode(),
+                row.getVersion(),
+                row.getCreatedAt());
+    }
+
+    /**
+     * Resposta do multi-get: clientes encontrados por ID e a lista dos IDs pedidos que não existem.
+     */
+    public static ClientLookupResponseDTO toLookupResponseDTO(Collection<UUID> ids, Map<UUID, ClientView> clients) {
+        return ClientLookupResponseDTO.builder()
+                .clients(clients)
+                .missing(ids.stream().distinct().filter(id -> !clients.containsKey(id)).toList())
+                .build();
+    }
+
+    public static ClientPageDTO toPageDTO(ClientPage<ClientEntity> page) {
+        return ClientPageDTO.builder()
+                .content(page.getClients().stream().map(ClientMapper::toView).toList())
+                .next(ClientCursorMapper.encode(page.getNext()))
+                .build();
+    }
+
+    /**
+     * Página já projetada pela consulta: reaproveita a lista de ClientView sem copiar os clientes.
+     */
+    public static ClientPageDTO toViewPageDTO(ClientPage<ClientView> page) {
+        return ClientPageDTO.builder()
+                .content(page.getClients())
+                .next(ClientCursorMapper.encode(page.getNext()))
+                .build();
+    }
+
+    public static ClientChangeView toChangeView(ClientChangeRow row) {
+        ClientView client = row.getName() == null ? null : new ClientView(
+                row.getClientId(),
+                row.getName(),
+                row.getCpf(),
+                row.getPhone(),
+                row.getDateOfBirth(),
+                row.getCity(),
+                row.getState(),
+                row.getStreet(),
+                row.getPostalCode(),
+                row.getClientVersion(),
+                row.getCreatedAt());
+        return ClientChangeView.builder()
+                .type(ClientChangeType.valueOf(row.getChangeType()))
+                .clientId(row.getClientId())
+                .version(row.getVersion())
+                .changedAt(row.getChangedAt())
+                .client(client)
+                .txId(row.getTxId())
+                .seq(row.getSeq())
+                .build();
+    }
+
+    public static ClientChangePageDTO toChangePageDTO(ClientChangePage<ClientChangeView> page) {
+        return ClientChangePageDTO.builder()
+                .changes(page.getChanges())
+                .next(ClientChangeCursorMapper.encode(page.getNext()))
+                .hasMore(page.isHasMore())
+                .build();
+    }
+
+    public static ClientBatchResponseDTO toBatchResponseDTO(List<ClientBatchItem> items) {
+        List<ClientBatchItemDTO> results = items.stream()
+                .map(item -> ClientBatchItemDTO.builder()
+                        .index(item.getIndex())
+                        .status(item.getStatus())
+                        .client(item.getClient() == null ? null : toDTO(item.getClient()))
+                        .message(item.getMessage())
+                        .build())
+                .toList();
+        int created = (int) items.stream().filter(item -> item.getStatus() == ClientBatchStatus.CREATED).count();
+        return ClientBatchResponseDTO.builder()
+                .created(created)
+                .conflicts(items.size() - created)
+                .results(results)
+                .build();
+    }
 }
\ No newline at end of file
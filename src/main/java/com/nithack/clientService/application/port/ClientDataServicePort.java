@@ -1,33 +1,99 @@
 package com.nithack.clientService.application.port;
 
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientCursor;
 import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ClientDataServicePort {
     /**
-     * Exclui um cliente pelo seu ID.
+     * Exclui um cliente e seu endereço em um único comando.
      *
      * @param clientId UUID do cliente a ser excluído.
+     * @param expectedVersion versão que o cliente deve ter para ser excluído, ou null para excluir sem verificar.
+     * @return quantidade de clientes excluídos (0 se não existir ou se a versão for outra).
      */
-    void deleteById(UUID clientId);
-    List<ClientEntity> findAll();
+    long deleteReturningCount(UUID clientId, Long expectedVersion);
+    /**
+     * Busca uma página de clientes ordenada por (createdAt, id), a partir do cursor informado.
+     *
+     * @param after posição após a qual a página começa, ou null para a primeira página.
+     * @param limit quantidade máxima de clientes na página.
+     * @return ClientPage com a projeção de leitura dos clientes e o cursor da próxima página, se houver.
+     */
+    ClientPage<ClientView> findPage(ClientCursor after, int limit);
+    /**
+     * Busca uma página dos clientes que atendem aos filtros, ordenada por (createdAt, id), a partir do cursor informado.
+     *
+     * @param query filtros da busca; filtros nulos são ignorados.
+     * @param after posição após a qual a página começa, ou null para a primeira página.
+     * @param limit quantidade máxima de clientes na página.
+     * @return ClientPage com a projeção de leitura dos clientes e o cursor da próxima página, se houver.
+     */
+    ClientPage<ClientView> search(ClientQuery query, ClientCursor after, int limit);
+    /**
+     * Percorre todos os clientes usando um cursor JDBC, entregando um por vez ao consumidor.
+     *
+     * @param consumer consumidor chamado para cada cliente lido.
+     */
+    void streamAll(Consumer<ClientView> consumer);
+    /**
+     * Busca as alterações de clientes após a posição informada, em ordem de (transação, sequência),
+     * considerando apenas transações já encerradas.
+     *
+     * @param after posição após a qual a página começa.
+     * @param limit quantidade máxima de alterações na página.
+     * @return ClientChangePage com as alterações e a posição de onde continuar.
+     */
+    ClientChangePage<ClientChangeView> findChanges(ClientChangeCursor after, int limit);
     /**
      * Busca um cliente pelo seu ID.
      *
      * @param clientId UUID do cliente a ser buscado.
-     * @return Optional com o ClientEntity encontrado, ou Optional vazio se não encontrado.
+     * @return Optional com a projeção de leitura do cliente, ou Optional vazio se não encontrado.
      */
-    Optional<ClientEntity> findById(UUID clientId);
+    Optional<ClientView> findById(UUID clientId);
     /**
-     * Salva ou atualiza um cliente.
+     * Busca vários clientes pelos IDs em uma única consulta, com o endereço no mesmo join.
+     *
+     * @param clientIds IDs dos clientes; repetições são ignoradas.
+     * @return projeções de leitura dos clientes encontrados, indexadas pelo ID; IDs inexistentes ficam de fora.
+     */
+    Map<UUID, ClientView> findAllByIds(Collection<UUID> clientIds);
+    /**
+     * Salva um novo cliente.
      *
      * @param client a entidade de cliente a ser salvo.
      * @return o ClientModel salvo.
      */
     ClientEntity save(ClientEntity client);
+    /**
+     * Atualiza um cliente existente e seu endereço em um único comando, preservando a data de criação
+     * e incrementando a versão. Com {@code client.version} informada, só atualiza se a versão atual for a mesma.
+     *
+     * @param client dados atualizados do cliente.
+     * @return Optional com o cliente atualizado, ou vazio se não existir ou se a versão for outra.
+     */
+    Optional<ClientEntity> updateReturning(ClientEntity client);
+    /**
+     * Insere um lote de novos clientes usando batches JDBC.
+     *
+     * @param clients clientes novos a serem inseridos.
+     * @return lista de ClientEntity inseridos, na mesma ordem recebida.
+     */
+    List<ClientEntity> saveAll(List<ClientEntity> clients);
     /**
      * Verifica se um cliente existe pelo seu ID.
      *
@@ -42,4 +108,11 @@ public interface ClientDataServicePort {
      * @return true se o cliente existir, caso contrário false.
      */
     boolean existsByCpf(String cpf);
+    /**
+     * Verifica em uma única consulta quais CPFs já estão cadastrados.
+     *
+     * @param cpfs CPFs a serem verificados.
+     * @return conjunto com os CPFs já existentes.
+     */
+    Set<String> findExistingCpfs(Collection<String> cpfs);
 }
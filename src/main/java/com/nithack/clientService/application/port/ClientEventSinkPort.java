@@ -0,0 +1,18 @@
+package com.nithack.clientService.application.port;
+
+import com.nithack.clientService.domain.entity.ClientEvent;
+
+import java.util.List;
+
+/**
+ * Destino dos eventos de cliente drenados do outbox (broker, arquivo, memória).
+ */
+public interface ClientEventSinkPort {
+    /**
+     * Publica um lote de eventos, em ordem de sequência. A entrega é "ao menos uma vez": se o método lançar
+     * exceção, ou se o lote não puder ser marcado como publicado depois, o lote inteiro é entregue de novo.
+     *
+     * @param events eventos do lote.
+     */
+    void publish(List<ClientEvent> events);
+}
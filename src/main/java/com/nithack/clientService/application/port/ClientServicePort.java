@@ -1,12 +1,23 @@
 package com.nithack.clientService.application.port;
 
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.dto.ClientView;
 import com.nithack.clientService.application.exception.ClientAlreadyExistsException;
 import com.nithack.clientService.application.exception.ClientNotFoundException;
+import com.nithack.clientService.application.exception.ClientVersionMismatchException;
+import com.nithack.clientService.application.exception.InvalidCursorException;
+import com.nithack.clientService.domain.entity.ClientBatchItem;
+import com.nithack.clientService.domain.entity.ClientChangePage;
 import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 /**
  * Interface para operações de gerenciamento de clientes, como criação, atualização, consulta e exclusão.
  */
@@ -16,31 +27,75 @@ public interface ClientServicePort {
      * Exclui um cliente pelo ID.
      *
      * @param clientId UUID do cliente.
+     * @param expectedVersion versão esperada (If-Match), ou null para excluir sem verificar.
      * @throws ClientNotFoundException se o cliente não existir.
+     * @throws ClientVersionMismatchException se a versão atual for diferente da esperada.
      */
-    void delete(UUID clientId);
+    void delete(UUID clientId, Long expectedVersion);
 
     /**
-     * Retorna todos os clientes cadastrados.
+     * Retorna uma página de clientes cadastrados.
      *
-     * @return lista de clientes ou lista vazia, se nenhum cliente for encontrado.
+     * @param cursor cursor opaco retornado pela página anterior, ou null para a primeira página.
+     * @param size tamanho da página; limitado ao máximo permitido.
+     * @return ClientPage com os clientes e o cursor da próxima página, se houver.
+     * @throws InvalidCursorException se o cursor for inválido.
      */
-    List<ClientEntity> findAll();
+    ClientPage<ClientView> findPage(String cursor, Integer size);
+
+    /**
+     * Busca uma página dos clientes que atendem aos filtros informados.
+     *
+     * @param query filtros por prefixo do nome, cidade, estado, CEP e faixa de data de nascimento.
+     * @param cursor cursor opaco retornado pela página anterior da mesma busca, ou null para a primeira página.
+     * @param size tamanho da página; limitado ao máximo permitido.
+     * @return ClientPage com os clientes e o cursor da próxima página, se houver.
+     * @throws InvalidCursorException se o cursor for inválido.
+     */
+    ClientPage<ClientView> search(ClientQuery query, String cursor, Integer size);
+
+    /**
+     * Percorre todos os clientes cadastrados sem carregá-los em memória de uma vez.
+     *
+     * @param consumer consumidor chamado para cada cliente.
+     */
+    void streamAll(Consumer<ClientView> consumer);
+
+    /**
+     * Busca as alterações de clientes (inclusões, atualizações e exclusões) após o token informado.
+     *
+     * @param since token retornado pela consulta anterior, ou null para começar da primeira alteração.
+     * @param size quantidade máxima de alterações na página.
+     * @return ClientChangePage com as alterações e a posição de onde continuar.
+     * @throws InvalidCursorException se o token for inválido.
+     */
+    ClientChangePage<ClientChangeView> findChanges(String since, Integer size);
 
     /**
      * Busca um cliente pelo ID.
      *
      * @param id UUID do cliente como string.
-     * @return Optional com o cliente, ou vazio se não encontrado.
+     * @return Optional com a projeção de leitura do cliente, ou vazio se não encontrado.
+     */
+    Optional<ClientView> findById(String id);
+
+    /**
+     * Busca vários clientes pelos IDs de uma vez, em vez de uma chamada por cliente.
+     *
+     * @param ids IDs dos clientes; repetições são ignoradas.
+     * @return projeções de leitura dos clientes encontrados, indexadas pelo ID, na ordem em que os IDs foram informados;
+     * IDs inexistentes ficam de fora.
      */
-    Optional<ClientEntity> findById(String id);
+    Map<UUID, ClientView> findAllByIds(Collection<UUID> ids);
 
     /**
-     * Atualiza um cliente existente.
+     * Atualiza um cliente existente. Com {@code client.version} informada (If-Match), a atualização
+     * só acontece se a versão atual for a mesma.
      *
      * @param client dados atualizados do cliente.
-     * @return ClientEntity com o cliente atualizado.
+     * @return ClientEntity com o cliente atualizado e a nova versão.
      * @throws ClientNotFoundException se o cliente não existir.
+     * @throws ClientVersionMismatchException se a versão atual for diferente da esperada.
      */
     ClientEntity update(ClientEntity client);
 
@@ -52,5 +107,13 @@ public interface ClientServicePort {
      * @throws ClientAlreadyExistsException se um cliente com o mesmo CPF já existir.
      */
     ClientEntity create(ClientEntity clientDto);
-}
 
+    /**
+     * Cria vários clientes em lote. CPFs já cadastrados ou repetidos no próprio lote
+     * são reportados como conflito sem impedir a criação dos demais.
+     *
+     * @param clients dados dos novos clientes.
+     * @return resultado de cada cliente, na mesma ordem recebida.
+     */
+    List<ClientBatchItem> createAll(List<ClientEntity> clients);
+}
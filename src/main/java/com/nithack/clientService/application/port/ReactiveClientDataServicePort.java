@@ -0,0 +1,106 @@
+package com.nithack.clientService.application.port;
+
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.exception.ClientAlreadyExistsException;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientCursor;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Versão não bloqueante de {@link ClientDataServicePort}. Cada escrita é um único comando SQL.
+ */
+public interface ReactiveClientDataServicePort {
+    /**
+     * Exclui um cliente e seu endereço pelo ID do cliente.
+     *
+     * @param clientId UUID do cliente a ser excluído.
+     * @return quantidade de clientes excluídos (0 se não existir).
+     */
+    Mono<Long> deleteReturningCount(UUID clientId);
+    /**
+     * Busca uma página de clientes ordenada por (createdAt, id), a partir do cursor informado.
+     *
+     * @param after posição após a qual a página começa, ou null para a primeira página.
+     * @param limit quantidade máxima de clientes na página.
+     * @return ClientPage com os clientes e o cursor da próxima página, se houver.
+     */
+    Mono<ClientPage<ClientEntity>> findPage(ClientCursor after, int limit);
+    /**
+     * Busca uma página dos clientes que atendem aos filtros, ordenada por (createdAt, id), a partir do cursor informado.
+     *
+     * @param query filtros da busca; filtros nulos são ignorados.
+     * @param after posição após a qual a página começa, ou null para a primeira página.
+     * @param limit quantidade máxima de clientes na página.
+     * @return ClientPage com os clientes e o cursor da próxima página, se houver.
+     */
+    Mono<ClientPage<ClientEntity>> search(ClientQuery query, ClientCursor after, int limit);
+    /**
+     * Percorre todos os clientes respeitando a demanda (backpressure) do assinante.
+     *
+     * @return fluxo com todos os clientes.
+     */
+    Flux<ClientEntity> streamAll();
+    /**
+     * Busca as alterações de clientes após a posição informada, em ordem de (transação, sequência),
+     * considerando apenas transações já encerradas.
+     *
+     * @param after posição após a qual a página começa.
+     * @param limit quantidade máxima de alterações na página.
+     * @return ClientChangePage com as alterações e a posição de onde continuar.
+     */
+    Mono<ClientChangePage<ClientChangeView>> findChanges(ClientChangeCursor after, int limit);
+    /**
+     * Busca um cliente pelo seu ID.
+     *
+     * @param clientId UUID do cliente a ser buscado.
+     * @return Mono com o cliente, ou vazio se não encontrado.
+     */
+    Mono<ClientEntity> findById(UUID clientId);
+    /**
+     * Busca vários clientes pelos IDs em uma única consulta, com o endereço no mesmo join.
+     *
+     * @param clientIds IDs dos clientes; repetições são ignoradas.
+     * @return clientes encontrados, indexados pelo ID; IDs inexistentes ficam de fora.
+     */
+    Mono<Map<UUID, ClientEntity>> findAllByIds(Collection<UUID> clientIds);
+    /**
+     * Insere um novo cliente e seu endereço.
+     *
+     * @param client cliente com IDs (cliente e endereço) e datas já preenchidos.
+     * @return o cliente inserido.
+     * @throws ClientAlreadyExistsException (como erro do Mono) se o CPF já estiver cadastrado.
+     */
+    Mono<ClientEntity> insert(ClientEntity client);
+    /**
+     * Insere um lote de novos clientes em uma única transação.
+     *
+     * @param clients clientes com IDs (cliente e endereço) e datas já preenchidos.
+     * @return clientes inseridos, na mesma ordem recebida.
+     */
+    Mono<List<ClientEntity>> insertAll(List<ClientEntity> clients);
+    /**
+     * Atualiza um cliente existente e seu endereço, preservando a data de criação.
+     *
+     * @param client dados atualizados do cliente.
+     * @return o cliente atualizado, ou vazio se não existir.
+     */
+    Mono<ClientEntity> updateReturning(ClientEntity client);
+    /**
+     * Verifica em uma única consulta quais CPFs já estão cadastrados.
+     *
+     * @param cpfs CPFs a serem verificados.
+     * @return conjunto com os CPFs já existentes.
+     */
+    Mono<Set<String>> findExistingCpfs(Collection<String> cpfs);
+}
@@ -0,0 +1,109 @@
+package com.nithack.clientService.application.port;
+
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.exception.ClientAlreadyExistsException;
+import com.nithack.clientService.application.exception.ClientNotFoundException;
+import com.nithack.clientService.application.exception.InvalidCursorException;
+import com.nithack.clientService.domain.entity.ClientBatchItem;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Versão não bloqueante de {@link ClientServicePort}; os erros são sinalizados no próprio Mono/Flux.
+ */
+public interface ReactiveClientServicePort {
+
+    /**
+     * Exclui um cliente pelo ID.
+     *
+     * @param clientId UUID do cliente.
+     * @return Mono vazio ao concluir; erro {@link ClientNotFoundException} se o cliente não existir.
+     */
+    Mono<Void> delete(UUID clientId);
+
+    /**
+     * Retorna uma página de clientes cadastrados.
+     *
+     * @param cursor cursor opaco retornado pela página anterior, ou null para a primeira página.
+     * @param size tamanho da página; limitado ao máximo permitido.
+     * @return ClientPage com os clientes; erro {@link InvalidCursorException} se o cursor for inválido.
+     */
+    Mono<ClientPage<ClientEntity>> findPage(String cursor, Integer size);
+
+    /**
+     * Busca uma página dos clientes que atendem aos filtros informados.
+     *
+     * @param query filtros por prefixo do nome, cidade, estado, CEP e faixa de data de nascimento.
+     * @param cursor cursor opaco retornado pela página anterior da mesma busca, ou null para a primeira página.
+     * @param size tamanho da página; limitado ao máximo permitido.
+     * @return ClientPage com os clientes; erro {@link InvalidCursorException} se o cursor for inválido.
+     */
+    Mono<ClientPage<ClientEntity>> search(ClientQuery query, String cursor, Integer size);
+
+    /**
+     * Percorre todos os clientes cadastrados respeitando a demanda do assinante.
+     *
+     * @return fluxo com todos os clientes.
+     */
+    Flux<ClientEntity> streamAll();
+
+    /**
+     * Busca as alterações de clientes (inclusões, atualizações e exclusões) após o token informado.
+     *
+     * @param since token retornado pela consulta anterior, ou null para começar da primeira alteração.
+     * @param size quantidade máxima de alterações na página.
+     * @return ClientChangePage com as alterações e a posição de onde continuar; erro {@link InvalidCursorException}
+     * se o token for inválido.
+     */
+    Mono<ClientChangePage<ClientChangeView>> findChanges(String since, Integer size);
+
+    /**
+     * Busca um cliente pelo ID.
+     *
+     * @param id UUID do cliente como string.
+     * @return Mono com o cliente, ou vazio se não encontrado.
+     */
+    Mono<ClientEntity> findById(String id);
+
+    /**
+     * Busca vários clientes pelos IDs de uma vez, em vez de uma chamada por cliente.
+     *
+     * @param ids IDs dos clientes; repetições são ignoradas.
+     * @return clientes encontrados, indexados pelo ID, na ordem em que os IDs foram informados; IDs inexistentes
+     * ficam de fora.
+     */
+    Mono<Map<UUID, ClientEntity>> findAllByIds(Collection<UUID> ids);
+
+    /**
+     * Atualiza um cliente existente.
+     *
+     * @param client dados atualizados do cliente.
+     * @return cliente atualizado; erro {@link ClientNotFoundException} se o cliente não existir.
+     */
+    Mono<ClientEntity> update(ClientEntity client);
+
+    /**
+     * Cria um novo cliente.
+     *
+     * @param client dados do novo cliente.
+     * @return cliente criado; erro {@link ClientAlreadyExistsException} se o CPF já existir.
+     */
+    Mono<ClientEntity> create(ClientEntity client);
+
+    /**
+     * Cria vários clientes em lote, reportando CPFs duplicados por item.
+     *
+     * @param clients dados dos novos clientes.
+     * @return resultado de cada cliente, na mesma ordem recebida.
+     */
+    Mono<List<ClientBatchItem>> createAll(List<ClientEntity> clients);
+}
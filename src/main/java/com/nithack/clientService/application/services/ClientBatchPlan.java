@@ -0,0 +1,94 @@
+package com.nithack.clientService.application.services;
+
+import com.nithack.clientService.application.exception.ClientAlreadyExistsException;
+import com.nithack.clientService.application.util.UuidV7;
+import com.nithack.clientService.domain.entity.ClientBatchItem;
+import com.nithack.clientService.domain.entity.ClientBatchStatus;
+import com.nithack.clientService.domain.entity.ClientEntity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Separa um lote de clientes entre conflitos (CPF já cadastrado, CPF ou telefone repetido no lote)
+ * e clientes a inserir, e monta o resultado final na ordem original da requisição.
+ */
+final class ClientBatchPlan {
+
+    private final ClientBatchItem[] items;
+    private final List<Integer> newIndexes = new ArrayList<>();
+    private final List<ClientEntity> newClients = new ArrayList<>();
+
+    private ClientBatchPlan(List<ClientEntity> clients, Set<String> existingCpfs) {
+        this.items = new ClientBatchItem[clients.size()];
+        Set<String> batchCpfs = new HashSet<>();
+        Set<String> batchPhones = new HashSet<>();
+        for (int i = 0; i < clients.size(); i++) {
+            ClientEntity client = clients.get(i);
+            if (existingCpfs.contains(client.getCpf()) || !batchCpfs.add(client.getCpf())) {
+                items[i] = conflictItem(i, new ClientAlreadyExistsException(client.getCpf()));
+                continue;
+            }
+            if (client.getPhone() != null && !batchPhones.add(client.getPhone())) {
+                items[i] = conflictItem(i, new ClientAlreadyExistsException("phone", client.getPhone()));
+                continue;
+            }
+            client.setId(UuidV7.next());
+            client.getAddress().setId(UuidV7.next());
+            client.setCreatedAt(LocalDate.now());
+            client.setUpdatedAt(LocalDate.now());
+            newIndexes.add(i);
+            newClients.add(client);
+        }
+    }
+
+    static ClientBatchPlan of(List<ClientEntity> clients, Set<String> existingCpfs) {
+        return new ClientBatchPlan(clients, existingCpfs);
+    }
+
+    List<ClientEntity> newClients() {
+        return newClients;
+    }
+
+    /**
+     * Registra como criado o cliente na posição informada de {@link #newClients()}.
+     */
+    void created(int position, ClientEntity savedClient) {
+        int index = newIndexes.get(position);
+        items[index] = ClientBatchItem.builder()
+                .index(index)
+                .status(ClientBatchStatus.CREATED)
+                .client(savedClient)
+                .build();
+    }
+
+    /**
+     * Registra como conflito o cliente na posição informada de {@link #newClients()}, recusado pelo banco.
+     */
+    void conflict(int position, ClientAlreadyExistsException conflict) {
+        int index = newIndexes.get(position);
+        items[index] = conflictItem(index, conflict);
+    }
+
+    List<ClientBatchItem> items() {
+        return List.of(items);
+    }
+
+    List<ClientBatchItem> complete(List<ClientEntity> savedClients) {
+        for (int i = 0; i < savedClients.size(); i++) {
+            created(i, savedClients.get(i));
+        }
+        return items();
+    }
+
+    private static ClientBatchItem conflictItem(int index, ClientAlreadyExistsException conflict) {
+        return ClientBatchItem.builder()
+                .index(index)
+                .status(ClientBatchStatus.CONFLICT)
+                .message(conflict.getMessage())
+                .build();
+    }
+}
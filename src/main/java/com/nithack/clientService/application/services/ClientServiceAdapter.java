@@ -1,113 +1,206 @@
 package com.nithack.clientService.application.services;
 
 
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.dto.ClientView;
 import com.nithack.clientService.application.exception.ClientAlreadyExistsException;
 import com.nithack.clientService.application.exception.ClientNotFoundException;
+import com.nithack.clientService.application.exception.ClientVersionMismatchException;
+import com.nithack.clientService.application.mapper.ClientChangeCursorMapper;
+import com.nithack.clientService.application.mapper.ClientCursorMapper;
 import com.nithack.clientService.application.port.ClientDataServicePort;
 import com.nithack.clientService.application.port.ClientServicePort;
+import com.nithack.clientService.application.util.UuidV7;
+import com.nithack.clientService.domain.entity.ClientBatchItem;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientCursor;
 import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ClientServiceAdapter implements ClientServicePort {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final ClientDataServicePort clientDataService;
 
     @Override
-    public void delete(UUID clientId) {
-        log.info("[delete] Deleting client with id: {}", clientId);
+    public void delete(UUID clientId, Long expectedVersion) {
+        log.debug("[delete] Deleting client with id: {}", clientId);
         try {
-            if (!clientDataService.existsById(clientId)) {
+            if (clientDataService.deleteReturningCount(clientId, expectedVersion) == 0) {
+                checkVersionMismatch(clientId, expectedVersion);
                 log.warn("[delete] Client with id: {} does not exist", clientId);
                 throw new ClientNotFoundException(clientId);
             }
-            clientDataService.deleteById(clientId);
-            log.info("[delete] Successfully deleted client with id: {}", clientId);
+            log.debug("[delete] Successfully deleted client with id: {}", clientId);
         } catch (Exception e) {
             log.error("[delete] Error deleting client with id: {}", clientId, e);
             throw e;
         } finally {
-            log.info("[delete] Finished deleted client with id: {}", clientId);
+            log.debug("[delete] Finished deleted client with id: {}", clientId);
         }
     }
 
     @Override
-    public List<ClientEntity> findAll() {
-       log.info("[findAll] Finding all clients");
-       try {
-           List<ClientEntity> clients = clientDataService.findAll();
-           if (clients.isEmpty()) {
-               log.warn("[findAll] No clients found");
-               return List.of();
-           }
-           log.info("[findAll] Successfully found all clients");
-           return clients;
-       } catch (Exception e) {
-           log.error("[findAll] Error finding all clients");
-           throw e;
-       } finally {
-           log.info("[findAll] Finished finding all clients");
-       }
+    public ClientPage<ClientView> findPage(String cursor, Integer size) {
+        int limit = pageSize(size);
+        log.debug("[findPage] Finding page of clients with size: {}", limit);
+        try {
+            ClientCursor after = ClientCursorMapper.decode(cursor);
+            ClientPage<ClientView> page = clientDataService.findPage(after, limit);
+            log.debug("[findPage] Successfully found {} clients", page.getClients().size());
+            return page;
+        } catch (Exception e) {
+            log.error("[findPage] Error finding page of clients");
+            throw e;
+        } finally {
+            log.debug("[findPage] Finished finding page of clients");
+        }
     }
 
     @Override
-    public Optional<ClientEntity> findById(String id) {
-        log.info("[findById] Finding client with id: {}", id);
+    public ClientPage<ClientView> search(ClientQuery query, String cursor, Integer size) {
+        int limit = pageSize(size);
+        log.debug("[search] Searching clients with query: {} and size: {}", query, limit);
         try {
-            Optional<ClientEntity> client = clientDataService.findById(UUID.fromString(id));
+            ClientCursor after = ClientCursorMapper.decode(cursor);
+            ClientPage<ClientView> page = clientDataService.search(query, after, limit);
+            log.debug("[search] Successfully found {} clients", page.getClients().size());
+            return page;
+        } catch (Exception e) {
+            log.error("[search] Error searching clients");
+            throw e;
+        } finally {
+            log.debug("[search] Finished searching clients");
+        }
+    }
+
+    @Override
+    public ClientChangePage<ClientChangeView> findChanges(String since, Integer size) {
+        int limit = pageSize(size);
+        log.debug("[findChanges] Finding page of client changes with size: {}", limit);
+        try {
+            ClientChangeCursor after = ClientChangeCursorMapper.decode(since);
+            ClientChangePage<ClientChangeView> page = clientDataService.findChanges(after, limit);
+            log.debug("[findChanges] Successfully found {} changes, has more: {}", page.getChanges().size(), page.isHasMore());
+            return page;
+        } catch (Exception e) {
+            log.error("[findChanges] Error finding page of client changes");
+            throw e;
+        } finally {
+            log.debug("[findChanges] Finished finding page of client changes");
+        }
+    }
+
+    @Override
+    public void streamAll(Consumer<ClientView> consumer) {
+        log.debug("[streamAll] Streaming all clients");
+        try {
+            clientDataService.streamAll(consumer);
+            log.debug("[streamAll] Successfully streamed all clients");
+        } catch (Exception e) {
+            log.error("[streamAll] Error streaming all clients");
+            throw e;
+        } finally {
+            log.debug("[streamAll] Finished streaming all clients");
+        }
+    }
+
+    @Override
+    public Optional<ClientView> findById(String id) {
+        log.debug("[findById] Finding client with id: {}", id);
+        try {
+            Optional<ClientView> client = clientDataService.findById(UUID.fromString(id));
             if (client.isEmpty()) {
                 log.warn("[findById] Client with id: {} does not exist", id);
                 return Optional.empty();
             }
-            log.info("[findById] Successfully found client with id: {}", id);
+            log.debug("[findById] Successfully found client with id: {}", id);
             return client;
         } catch (Exception e) {
             log.error("[findById] Error finding client with id: {}", id);
             throw e;
         } finally {
-            log.info("[findById] Finished finding client with id: {}", id);
+            log.debug("[findById] Finished finding client with id: {}", id);
+        }
+    }
+
+    @Override
+    public Map<UUID, ClientView> findAllByIds(Collection<UUID> ids) {
+        Set<UUID> uniqueIds = new LinkedHashSet<>(ids);
+        log.debug("[findAllByIds] Finding {} clients", uniqueIds.size());
+        try {
+            if (uniqueIds.isEmpty()) {
+                return Map.of();
+            }
+            Map<UUID, ClientView> found = clientDataService.findAllByIds(uniqueIds);
+            Map<UUID, ClientView> clients = new LinkedHashMap<>(found.size() * 2);
+            uniqueIds.forEach(id -> {
+                ClientView client = found.get(id);
+                if (client != null) {
+                    clients.put(id, client);
+                }
+            });
+            log.debug("[findAllByIds] Successfully found {} of {} clients", clients.size(), uniqueIds.size());
+            return clients;
+        } catch (Exception e) {
+            log.error("[findAllByIds] Error finding {} clients", uniqueIds.size());
+            throw e;
+        } finally {
+            log.debug("[findAllByIds] Finished finding clients");
         }
     }
 
     @Override
     public ClientEntity update(ClientEntity client) {
-        log.info("[update] Updating client with id: {}", client.getId());
+        log.debug("[update] Updating client with id: {}", client.getId());
         try {
-            var optionalClient = clientDataService.findById(client.getId());
+            client.setUpdatedAt(LocalDate.now());
+            var optionalClient = clientDataService.updateReturning(client);
             if (optionalClient.isEmpty()) {
+                checkVersionMismatch(client.getId(), client.getVersion());
                 log.warn("[update] Client with id: {} does not exist stop update", client.getId());
                 throw new ClientNotFoundException(client.getId());
             }
-            optionalClient.ifPresent(
-                    c -> {
-                        client.setUpdatedAt(LocalDate.now());
-                        client.setCreatedAt(c.getCreatedAt());
-                    }
-            );
-            final ClientEntity updateClientResult = clientDataService.save(client);
-            log.info("[update] Successfully updated client with id: {}", client.getId());
+            final ClientEntity updateClientResult = optionalClient.get();
+            log.debug("[update] Successfully updated client with id: {}", client.getId());
             return updateClientResult;
         } catch (Exception e) {
             log.error("[update] Error updating client with id: {}", client.getId());
             throw e;
         } finally {
-            log.info("[update] Finished updating client with id: {}", client.getId());
+            log.debug("[update] Finished updating client with id: {}", client.getId());
         }
     }
 
     @Override
     public ClientEntity create(ClientEntity client) {
-        client.setId(UUID.randomUUID());
-       log.info("[create] Start create new client with id: {}", client.getId());
+        client.setId(UuidV7.next());
+        client.getAddress().setId(UuidV7.next());
+       log.debug("[create] Start create new client with id: {}", client.getId());
        try {
            if (clientDataService.existsByCpf(client.getCpf())) {
                log.warn("[create] Client with cpf already exists");
@@ -116,13 +209,88 @@ public class ClientServiceAdapter implements ClientServicePort {
            client.setCreatedAt(LocalDate.now());
            client.setUpdatedAt(LocalDate.now());
            final ClientEntity clientEntity = clientDataService.save(client);
-           log.info("[create] Successfully created new client with id: {}", client.getId());
+           log.debug("[create] Successfully created new client with id: {}", client.getId());
            return clientEntity;
        } catch (Exception e) {
            log.error("[create] Error creating new client with id: {}", client.getId());
            throw e;
        } finally {
-           log.info("[create] Finished create new client with id: {}", client.getId());
+           log.debug("[create] Finished create new client with id: {}", client.getId());
        }
     }
+
+    @Override
+    public List<ClientBatchItem> createAll(List<ClientEntity> clients) {
+        log.debug("[createAll] Start create batch of {} clients", clients.size());
+        try {
+            Set<String> existingCpfs = clientDataService.findExistingCpfs(
+                    clients.stream().map(ClientEntity::getCpf).collect(Collectors.toSet()));
+            ClientBatchPlan plan = ClientBatchPlan.of(clients, existingCpfs);
+            List<ClientEntity> newClients = plan.newClients();
+            if (!newClients.isEmpty()) {
+                saveRange(plan, newClients, 0, newClients.size());
+            }
+            log.debug("[createAll] Successfully created batch of {} clients", clients.size());
+            return plan.items();
+        } catch (Exception e) {
+            log.error("[createAll] Error creating batch of {} clients", clients.size());
+            throw e;
+        } finally {
+            log.debug("[createAll] Finished create batch of clients");
+        }
+    }
+
+    /**
+     * Grava o intervalo [from, to) de novos clientes com um único saveAll. Se o lote for recusado (CPF gravado por
+     * outra requisição depois da verificação, telefone já cadastrado...), o intervalo é dividido ao meio e regravado
+     * até isolar as linhas recusadas, que viram conflitos sem desfazer o restante do lote.
+     */
+    private void saveRange(ClientBatchPlan plan, List<ClientEntity> newClients, int from, int to) {
+        try {
+            List<ClientEntity> savedClients = clientDataService.saveAll(newClients.subList(from, to));
+            for (int i = 0; i < savedClients.size(); i++) {
+                plan.created(from + i, savedClients.get(i));
+            }
+        } catch (RuntimeException e) {
+            if (to - from == 1) {
+                saveOne(plan, newClients, from);
+                return;
+            }
+            log.warn("[saveRange] Batch of {} clients rejected, splitting: {}", to - from, e.getMessage());
+            int middle = (from + to) >>> 1;
+            saveRange(plan, newClients, from, middle);
+            saveRange(plan, newClients, middle, to);
+        }
+    }
+
+    /**
+     * Regrava uma linha isolada com save, que traduz a violação de CPF ou telefone em ClientAlreadyExistsException;
+     * qualquer outro erro interrompe o lote.
+     */
+    private void saveOne(ClientBatchPlan plan, List<ClientEntity> newClients, int position) {
+        try {
+            plan.created(position, clientDataService.save(newClients.get(position)));
+        } catch (ClientAlreadyExistsException e) {
+            log.warn("[saveOne] Client at batch position {} conflicts with an existing client", position);
+            plan.conflict(position, e);
+        }
+    }
+
+    /**
+     * Tamanho de página efetivo: o padrão quando não informado, limitado entre 1 e o máximo permitido.
+     */
+    static int pageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Chamado apenas quando a escrita condicional não afetou nenhuma linha: uma consulta de existência
+     * diferencia versão divergente (cliente existe) de cliente inexistente, sem leitura antes da escrita.
+     */
+    private void checkVersionMismatch(UUID clientId, Long expectedVersion) {
+        if (expectedVersion != null && clientDataService.existsById(clientId)) {
+            log.warn("[checkVersionMismatch] Client with id: {} does not match expected version: {}", clientId, expectedVersion);
+            throw new ClientVersionMismatchException(clientId, expectedVersion);
+        }
+    }
 }
@@ -0,0 +1,183 @@
+package com.nithack.clientService.application.services;
+
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.exception.ClientNotFoundException;
+import com.nithack.clientService.application.mapper.ClientChangeCursorMapper;
+import com.nithack.clientService.application.mapper.ClientCursorMapper;
+import com.nithack.clientService.application.port.ReactiveClientDataServicePort;
+import com.nithack.clientService.application.port.ReactiveClientServicePort;
+import com.nithack.clientService.application.util.UuidV7;
+import com.nithack.clientService.domain.entity.ClientBatchItem;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveClientServiceAdapter implements ReactiveClientServicePort {
+
+    private final ReactiveClientDataServicePort clientDataService;
+
+    @Override
+    public Mono<Void> delete(UUID clientId) {
+        log.debug("[delete] Deleting client with id: {}", clientId);
+        return clientDataService.deleteReturningCount(clientId)
+                .flatMap(deleted -> {
+                    if (deleted == 0) {
+                        log.warn("[delete] Client with id: {} does not exist", clientId);
+                        return Mono.<Void>error(new ClientNotFoundException(clientId));
+                    }
+                    log.debug("[delete] Successfully deleted client with id: {}", clientId);
+                    return Mono.<Void>empty();
+                })
+                .doOnError(e -> log.error("[delete] Error deleting client with id: {}", clientId, e))
+                .doFinally(signal -> log.debug("[delete] Finished deleted client with id: {}", clientId));
+    }
+
+    @Override
+    public Mono<ClientPage<ClientEntity>> findPage(String cursor, Integer size) {
+        int limit = ClientServiceAdapter.pageSize(size);
+        log.debug("[findPage] Finding page of clients with size: {}", limit);
+        return Mono.defer(() -> clientDataService.findPage(ClientCursorMapper.decode(cursor), limit))
+                .doOnSuccess(page -> log.debug("[findPage] Successfully found {} clients", page.getClients().size()))
+                .doOnError(e -> log.error("[findPage] Error finding page of clients"))
+                .doFinally(signal -> log.debug("[findPage] Finished finding page of clients"));
+    }
+
+    @Override
+    public Mono<ClientPage<ClientEntity>> search(ClientQuery query, String cursor, Integer size) {
+        int limit = ClientServiceAdapter.pageSize(size);
+        log.debug("[search] Searching clients with query: {} and size: {}", query, limit);
+        return Mono.defer(() -> clientDataService.search(query, ClientCursorMapper.decode(cursor), limit))
+                .doOnSuccess(page -> log.debug("[search] Successfully found {} clients", page.getClients().size()))
+                .doOnError(e -> log.error("[search] Error searching clients"))
+                .doFinally(signal -> log.debug("[search] Finished searching clients"));
+    }
+
+    @Override
+    public Flux<ClientEntity> streamAll() {
+        log.debug("[streamAll] Streaming all clients");
+        return clientDataService.streamAll()
+                .doOnComplete(() -> log.debug("[streamAll] Successfully streamed all clients"))
+                .doOnError(e -> log.error("[streamAll] Error streaming all clients"))
+                .doFinally(signal -> log.debug("[streamAll] Finished streaming all clients"));
+    }
+
+    @Override
+    public Mono<ClientChangePage<ClientChangeView>> findChanges(String since, Integer size) {
+        int limit = ClientServiceAdapter.pageSize(size);
+        log.debug("[findChanges] Finding page of client changes with size: {}", limit);
+        return Mono.defer(() -> clientDataService.findChanges(ClientChangeCursorMapper.decode(since), limit))
+                .doOnSuccess(page -> log.debug("[findChanges] Successfully found {} changes, has more: {}",
+                        page.getChanges().size(), page.isHasMore()))
+                .doOnError(e -> log.error("[findChanges] Error finding page of client changes"))
+                .doFinally(signal -> log.debug("[findChanges] Finished finding page of client changes"));
+    }
+
+    @Override
+    public Mono<ClientEntity> findById(String id) {
+        log.debug("[findById] Finding client with id: {}", id);
+        return Mono.defer(() -> clientDataService.findById(UUID.fromString(id)))
+                .doOnSuccess(client -> {
+                    if (client == null) {
+                        log.warn("[findById] Client with id: {} does not exist", id);
+                    } else {
+                        log.debug("[findById] Successfully found client with id: {}", id);
+                    }
+                })
+                .doOnError(e -> log.error("[findById] Error finding client with id: {}", id))
+                .doFinally(signal -> log.debug("[findById] Finished finding client with id: {}", id));
+    }
+
+    @Override
+    public Mono<Map<UUID, ClientEntity>> findAllByIds(Collection<UUID> ids) {
+        Set<UUID> uniqueIds = new LinkedHashSet<>(ids);
+        log.debug("[findAllByIds] Finding {} clients", uniqueIds.size());
+        if (uniqueIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return clientDataService.findAllByIds(uniqueIds)
+                .map(found -> {
+                    Map<UUID, ClientEntity> clients = new LinkedHashMap<>(found.size() * 2);
+                    uniqueIds.forEach(id -> {
+                        ClientEntity client = found.get(id);
+                        if (client != null) {
+                            clients.put(id, client);
+                        }
+                    });
+                    log.debug("[findAllByIds] Successfully found {} of {} clients", clients.size(), uniqueIds.size());
+                    return clients;
+                })
+                .doOnError(e -> log.error("[findAllByIds] Error finding {} clients", uniqueIds.size()))
+                .doFinally(signal -> log.debug("[findAllByIds] Finished finding clients"));
+    }
+
+    @Override
+    public Mono<ClientEntity> update(ClientEntity client) {
+        log.debug("[update] Updating client with id: {}", client.getId());
+        client.setUpdatedAt(LocalDate.now());
+        return clientDataService.updateReturning(client)
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("[update] Client with id: {} does not exist stop update", client.getId());
+                    return Mono.error(new ClientNotFoundException(client.getId()));
+                }))
+                .doOnSuccess(updated -> log.debug("[update] Successfully updated client with id: {}", client.getId()))
+                .doOnError(e -> log.error("[update] Error updating client with id: {}", client.getId()))
+                .doFinally(signal -> log.debug("[update] Finished updating client with id: {}", client.getId()));
+    }
+
+    /**
+     * Cria o cliente confiando na constraint única de CPF do banco,
+     * sem a consulta prévia de existência feita pela versão bloqueante.
+     */
+    @Override
+    public Mono<ClientEntity> create(ClientEntity client) {
+        client.setId(UuidV7.next());
+        client.getAddress().setId(UuidV7.next());
+        log.debug("[create] Start create new client with id: {}", client.getId());
+        client.setCreatedAt(LocalDate.now());
+        client.setUpdatedAt(LocalDate.now());
+        return clientDataService.insert(client)
+                .doOnSuccess(created -> log.debug("[create] Successfully created new client with id: {}", client.getId()))
+                .doOnError(e -> log.error("[create] Error creating new client with id: {}", client.getId()))
+                .doFinally(signal -> log.debug("[create] Finished create new client with id: {}", client.getId()));
+    }
+
+    @Override
+    public Mono<List<ClientBatchItem>> createAll(List<ClientEntity> clients) {
+        log.debug("[createAll] Start create batch of {} clients", clients.size());
+        return clientDataService.findExistingCpfs(clients.stream().map(ClientEntity::getCpf).collect(Collectors.toSet()))
+                .flatMap(existingCpfs -> {
+                    ClientBatchPlan plan = ClientBatchPlan.of(clients, existingCpfs);
+                    List<ClientEntity> newClients = plan.newClients();
+                    Mono<List<ClientEntity>> savedClients = newClients.isEmpty()
+                            ? Mono.just(List.of())
+                            : clientDataService.insertAll(newClients);
+                    return savedClients.map(saved -> {
+                        log.debug("[createAll] Successfully created {} of {} clients", saved.size(), clients.size());
+                        return plan.complete(saved);
+                    });
+                })
+                .doOnError(e -> log.error("[createAll] Error creating batch of {} clients", clients.size()))
+                .doFinally(signal -> log.debug("[createAll] Finished create batch of clients"));
+    }
+}
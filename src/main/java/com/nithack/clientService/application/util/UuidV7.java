@@ -0,0 +1,27 @@
+package com.nithack.clientService.application.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Gera UUIDs versão 7 (RFC 9562): os 48 bits mais significativos são o timestamp Unix em
+ * milissegundos e o restante é aleatório. Como o PostgreSQL ordena {@code uuid} byte a byte,
+ * ids gerados em sequência entram no fim do índice da chave primária em vez de em páginas aleatórias.
+ */
+public class UuidV7 {
+
+    private UuidV7() {
+        throw new RuntimeException("Util Class");
+    }
+
+    public static UUID next() {
+        return of(System.currentTimeMillis());
+    }
+
+    static UUID of(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (epochMillis << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
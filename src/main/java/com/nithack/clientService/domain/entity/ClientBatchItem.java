@@ -0,0 +1,20 @@
+package com.nithack.clientService.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado individual de um cliente enviado em lote, identificado pela posição na requisição.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientBatchItem {
+    private int index;
+    private ClientBatchStatus status;
+    private ClientEntity client;
+    private String message;
+}
@@ -0,0 +1,9 @@
+package com.nithack.clientService.domain.entity;
+
+/**
+ * Resultado de um item dentro de uma importação em lote.
+ */
+public enum ClientBatchStatus {
+    CREATED,
+    CONFLICT
+}
@@ -0,0 +1,18 @@
+package com.nithack.clientService.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Posição no feed de alterações: transação que gravou a alteração e sequência dentro dela.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientChangeCursor {
+    private long txId;
+    private long seq;
+}
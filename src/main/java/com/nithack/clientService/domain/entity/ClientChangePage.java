@@ -0,0 +1,23 @@
+package com.nithack.clientService.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página do feed de alterações. {@code next} sempre é preenchido (é a posição de onde continuar, mesmo sem
+ * alterações novas); {@code hasMore} indica que já existem alterações além desta página.
+ * {@code T} é a representação da alteração.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientChangePage<T> {
+    private List<T> changes;
+    private ClientChangeCursor next;
+    private boolean hasMore;
+}
@@ -0,0 +1,18 @@
+package com.nithack.clientService.domain.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Tipo de alteração registrada no feed de clientes; DELETED é a lápide de um cliente excluído.
+ * {@code eventName} é o nome do evento de domínio publicado pelo outbox.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ClientChangeType {
+    CREATED("ClientCreated"),
+    UPDATED("ClientUpdated"),
+    DELETED("ClientDeleted");
+
+    private final String eventName;
+}
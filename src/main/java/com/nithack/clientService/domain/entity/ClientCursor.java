@@ -0,0 +1,21 @@
+package com.nithack.clientService.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Posição de keyset na ordenação (createdAt, id) usada para paginar clientes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientCursor {
+    private LocalDate createdAt;
+    private UUID id;
+}
@@ -23,4 +23,5 @@ public class ClientEntity {
     private AddressEntity address;
     private LocalDate createdAt;
     private LocalDate updatedAt;
+    private Long version;
 }
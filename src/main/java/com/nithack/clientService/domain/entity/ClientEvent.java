@@ -0,0 +1,26 @@
+package com.nithack.clientService.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento de domínio de um cliente (ClientCreated, ClientUpdated ou ClientDeleted) publicado pelo outbox.
+ * {@code sequence} identifica o evento e permite descartar reentregas; {@code version} é a versão do cliente
+ * gerada pela alteração.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientEvent {
+    private long sequence;
+    private String type;
+    private UUID clientId;
+    private long version;
+    private LocalDateTime occurredAt;
+}
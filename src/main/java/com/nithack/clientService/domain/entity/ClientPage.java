@@ -0,0 +1,21 @@
+package com.nithack.clientService.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página de clientes; {@code next} é nulo quando não há mais registros.
+ * {@code T} é a representação do cliente: ClientEntity ou a projeção de leitura.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientPage<T> {
+    private List<T> clients;
+    private ClientCursor next;
+}
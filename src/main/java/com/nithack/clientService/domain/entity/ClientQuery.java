@@ -0,0 +1,24 @@
+package com.nithack.clientService.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Filtros da busca de clientes. Campos nulos ou vazios não filtram; os demais são combinados com AND.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientQuery {
+    private String namePrefix;
+    private String city;
+    private String state;
+    private String postalCode;
+    private LocalDate bornFrom;
+    private LocalDate bornTo;
+}
@@ -0,0 +1,195 @@
+package com.nithack.clientService.infra.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.port.ClientDataServicePort;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientCursor;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Decorator de {@link ClientDataServicePort} que mantém um cache read-through da projeção de leitura ({@link ClientView}) por ID.
+ * Ausências também são armazenadas (cache negativo) e toda escrita invalida as chaves afetadas.
+ * As projeções são imutáveis, então a mesma instância é compartilhada entre as leituras.
+ * <p>
+ * A consulta ao banco roda na thread chamadora, fora de qualquer lock do cache: o mapa guarda apenas
+ * um future, então virtual threads não ficam presas (pinned) durante o I/O e leituras simultâneas
+ * do mesmo ID aguardam a mesma consulta.
+ * <p>
+ * Com réplicas de leitura, uma leitura logo após a invalidação pode recarregar o valor antigo de uma réplica
+ * atrasada; por isso, com {@code staleReadWindow} positivo, cada invalidação é repetida ao fim dessa janela.
+ */
+public class CachingClientDataServiceAdapter implements ClientDataServicePort {
+
+    private final ClientDataServicePort delegate;
+    private final AsyncCache<UUID, Optional<ClientView>> cache;
+    private final Duration staleReadWindow;
+
+    public CachingClientDataServiceAdapter(ClientDataServicePort delegate, AsyncCache<UUID, Optional<ClientView>> cache) {
+        this(delegate, cache, Duration.ZERO);
+    }
+
+    public CachingClientDataServiceAdapter(ClientDataServicePort delegate, AsyncCache<UUID, Optional<ClientView>> cache,
+                                           Duration staleReadWindow) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.staleReadWindow = staleReadWindow;
+    }
+
+    @Override
+    public long deleteReturningCount(UUID clientId, Long expectedVersion) {
+        try {
+            return delegate.deleteReturningCount(clientId, expectedVersion);
+        } finally {
+            invalidate(List.of(clientId));
+        }
+    }
+
+    @Override
+    public ClientPage<ClientView> findPage(ClientCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public ClientPage<ClientView> search(ClientQuery query, ClientCursor after, int limit) {
+        return delegate.search(query, after, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<ClientView> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public ClientChangePage<ClientChangeView> findChanges(ClientChangeCursor after, int limit) {
+        return delegate.findChanges(after, limit);
+    }
+
+    @Override
+    public Optional<ClientView> findById(UUID clientId) {
+        CompletableFuture<Optional<ClientView>> loading = new CompletableFuture<>();
+        CompletableFuture<Optional<ClientView>> cached = cache.get(clientId, (id, executor) -> loading);
+        if (cached != loading) {
+            return await(cached);
+        }
+        try {
+            Optional<ClientView> client = delegate.findById(clientId);
+            loading.complete(client);
+            return client;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Atende os IDs em cache e busca os demais em uma única chamada ao delegate; os IDs buscados entram no cache
+     * (inclusive os inexistentes, como cache negativo) e leituras simultâneas deles aguardam a mesma consulta.
+     */
+    @Override
+    public Map<UUID, ClientView> findAllByIds(Collection<UUID> clientIds) {
+        CompletableFuture<Map<UUID, Optional<ClientView>>> loading = new CompletableFuture<>();
+        Set<UUID> missing = new HashSet<>();
+        CompletableFuture<Map<UUID, Optional<ClientView>>> cached = cache.getAll(clientIds, (ids, executor) -> {
+            missing.addAll(ids);
+            return loading;
+        });
+        if (!missing.isEmpty()) {
+            try {
+                Map<UUID, ClientView> found = delegate.findAllByIds(missing);
+                Map<UUID, Optional<ClientView>> loaded = new HashMap<>(missing.size() * 2);
+                missing.forEach(id -> loaded.put(id, Optional.ofNullable(found.get(id))));
+                loading.complete(loaded);
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+        Map<UUID, ClientView> clients = new HashMap<>();
+        await(cached).forEach((id, client) -> client.ifPresent(view -> clients.put(id, view)));
+        return clients;
+    }
+
+    @Override
+    public ClientEntity save(ClientEntity client) {
+        try {
+            return delegate.save(client);
+        } finally {
+            invalidate(List.of(client.getId()));
+        }
+    }
+
+    @Override
+    public Optional<ClientEntity> updateReturning(ClientEntity client) {
+        try {
+            return delegate.updateReturning(client);
+        } finally {
+            invalidate(List.of(client.getId()));
+        }
+    }
+
+    @Override
+    public List<ClientEntity> saveAll(List<ClientEntity> clients) {
+        try {
+            return delegate.saveAll(clients);
+        } finally {
+            invalidate(clients.stream().map(ClientEntity::getId).toList());
+        }
+    }
+
+    @Override
+    public boolean existsById(UUID clientId) {
+        CompletableFuture<Optional<ClientView>> cached = cache.getIfPresent(clientId);
+        if (cached != null && cached.isDone() && !cached.isCompletedExceptionally()) {
+            return await(cached).isPresent();
+        }
+        return delegate.existsById(clientId);
+    }
+
+    @Override
+    public boolean existsByCpf(String cpf) {
+        return delegate.existsByCpf(cpf);
+    }
+
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        return delegate.findExistingCpfs(cpfs);
+    }
+
+    private void invalidate(List<UUID> clientIds) {
+        cache.synchronous().invalidateAll(clientIds);
+        if (staleReadWindow.isPositive()) {
+            CompletableFuture.runAsync(() -> cache.synchronous().invalidateAll(clientIds),
+                    CompletableFuture.delayedExecutor(staleReadWindow.toMillis(), TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.nithack.clientService.infra.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Índice probabilístico (Bloom filter) dos CPFs cadastrados, com CPF de 11 dígitos empacotado em {@code long}.
+ * Responde "com certeza ausente" ou "talvez presente"; enquanto não for carregado, tudo é "talvez presente".
+ * O índice só conhece os CPFs gravados por esta instância e os lidos na última carga: CPFs gravados por outras
+ * instâncias, ou durante uma recarga, são falsos negativos até a próxima carga. Por isso só serve para evitar a
+ * consulta de existência de uma inclusão individual, em que a constraint única de CPF barra o falso negativo.
+ */
+public class CpfIndex {
+
+    private final long minimumCapacity;
+    private final double falsePositiveRate;
+    private volatile Filter filter;
+
+    public CpfIndex(long minimumCapacity, double falsePositiveRate) {
+        this.minimumCapacity = minimumCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Reconstrói o índice a partir de uma fonte de CPFs, trocando-o atomicamente ao final da carga.
+     *
+     * @param expectedInsertions quantidade atual de CPFs; o filtro é dimensionado com folga para crescer.
+     * @param cpfSource fonte que entrega cada CPF ao consumidor recebido.
+     */
+    public void rebuild(long expectedInsertions, Consumer<Consumer<String>> cpfSource) {
+        Filter next = new Filter(Math.max(minimumCapacity, expectedInsertions * 2), falsePositiveRate);
+        cpfSource.accept(cpf -> next.add(pack(cpf)));
+        this.filter = next;
+    }
+
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    public boolean mightContain(String cpf) {
+        Filter current = filter;
+        long packed = pack(cpf);
+        return current == null || packed < 0 || current.mightContain(packed);
+    }
+
+    public void add(String cpf) {
+        Filter current = filter;
+        long packed = pack(cpf);
+        if (current != null && packed >= 0) {
+            current.add(packed);
+        }
+    }
+
+    static long pack(String cpf) {
+        if (cpf == null || cpf.length() != 11) {
+            return -1;
+        }
+        long packed = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            int digit = cpf.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            packed = packed * 10 + digit;
+        }
+        return packed;
+    }
+
+    private static final class Filter {
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashFunctions;
+
+        private Filter(long expectedInsertions, double falsePositiveRate) {
+            long optimalBits = (long) (-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.max(1, (optimalBits + 63) / 64);
+            this.bits = new AtomicLongArray(words);
+            this.bitCount = (long) words * 64;
+            this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        }
+
+        private void add(long value) {
+            long hash = mix(value);
+            long h1 = hash & 0xFFFFFFFFL;
+            long h2 = hash >>> 32;
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                do {
+                    current = bits.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        private boolean mightContain(long value) {
+            long hash = mix(value);
+            long h1 = hash & 0xFFFFFFFFL;
+            long h2 = hash >>> 32;
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xff51afd7ed558ccdL;
+            value ^= value >>> 33;
+            value *= 0xc4ceb9fe1a85ec53L;
+            value ^= value >>> 33;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.nithack.clientService.infra.cache;
+
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.port.ClientDataServicePort;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientCursor;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Decorator de {@link ClientDataServicePort} que consulta o {@link CpfIndex} antes de ir ao banco
+ * para verificar o CPF de uma inclusão individual. Exclusões não removem CPFs do índice: entradas
+ * antigas apenas fazem a verificação cair no banco, como antes.
+ * <p>
+ * A verificação de lotes ({@link #findExistingCpfs}) sempre vai ao banco: um falso negativo do índice
+ * faria o {@code saveAll} do lote inteiro falhar na constraint única.
+ */
+@RequiredArgsConstructor
+public class CpfIndexClientDataServiceAdapter implements ClientDataServicePort {
+
+    private final ClientDataServicePort delegate;
+    private final CpfIndex cpfIndex;
+
+    @Override
+    public long deleteReturningCount(UUID clientId, Long expectedVersion) {
+        return delegate.deleteReturningCount(clientId, expectedVersion);
+    }
+
+    @Override
+    public ClientPage<ClientView> findPage(ClientCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public ClientPage<ClientView> search(ClientQuery query, ClientCursor after, int limit) {
+        return delegate.search(query, after, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<ClientView> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public ClientChangePage<ClientChangeView> findChanges(ClientChangeCursor after, int limit) {
+        return delegate.findChanges(after, limit);
+    }
+
+    @Override
+    public Optional<ClientView> findById(UUID clientId) {
+        return delegate.findById(clientId);
+    }
+
+    @Override
+    public Map<UUID, ClientView> findAllByIds(Collection<UUID> clientIds) {
+        return delegate.findAllByIds(clientIds);
+    }
+
+    @Override
+    public ClientEntity save(ClientEntity client) {
+        ClientEntity savedClient = delegate.save(client);
+        cpfIndex.add(savedClient.getCpf());
+        return savedClient;
+    }
+
+    @Override
+    public Optional<ClientEntity> updateReturning(ClientEntity client) {
+        Optional<ClientEntity> updatedClient = delegate.updateReturning(client);
+        updatedClient.ifPresent(updated -> cpfIndex.add(updated.getCpf()));
+        return updatedClient;
+    }
+
+    @Override
+    public List<ClientEntity> saveAll(List<ClientEntity> clients) {
+        List<ClientEntity> savedClients = delegate.saveAll(clients);
+        savedClients.forEach(client -> cpfIndex.add(client.getCpf()));
+        return savedClients;
+    }
+
+    @Override
+    public boolean existsById(UUID clientId) {
+        return delegate.existsById(clientId);
+    }
+
+    @Override
+    public boolean existsByCpf(String cpf) {
+        return cpfIndex.mightContain(cpf) && delegate.existsByCpf(cpf);
+    }
+
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        return delegate.findExistingCpfs(cpfs);
+    }
+}
@@ -0,0 +1,45 @@
+package com.nithack.clientService.infra.cache;
+
+import com.nithack.clientService.infra.database.repository.ClientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.context.annotation.Profile;
+
+import java.util.stream.Stream;
+
+/**
+ * Carrega o {@link CpfIndex} na subida da aplicação percorrendo todos os CPFs com um cursor JDBC.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "client.cpf-index", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class CpfIndexWarmer {
+
+    private final ClientRepository clientRepository;
+    private final CpfIndex cpfIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warm() {
+        log.info("[warm] Loading CPF index");
+        try {
+            long start = System.nanoTime();
+            long count = clientRepository.count();
+            cpfIndex.rebuild(count, consumer -> {
+                try (Stream<String> cpfs = clientRepository.streamAllCpfs()) {
+                    cpfs.forEach(consumer);
+                }
+            });
+            log.info("[warm] Successfully loaded {} CPFs in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.error("[warm] Error loading CPF index, CPF checks will keep hitting the database", e);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.nithack.clientService.infra.cache;
+
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.port.ClientDataServicePort;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientCursor;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
+import com.nithack.clientService.infra.database.routing.ReadYourWritesContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Decorator de {@link ClientDataServicePort} que agrupa leituras idênticas simultâneas (single-flight):
+ * a primeira chamada de {@code findById} para um ID, ou de {@code findPage} para um cursor e tamanho, vai ao banco
+ * e as que chegarem enquanto ela estiver em andamento aguardam e recebem o mesmo resultado (ou a mesma exceção).
+ * Nada é guardado depois que a consulta termina; o cache por ID, quando ligado, fica acima deste decorator.
+ * <p>
+ * Quem aguarda por mais que {@code waitTimeout} desiste e faz a própria consulta, para que uma consulta lenta
+ * não segure todas as outras. Escritas desligam as consultas em andamento que afetam, e leituras que precisam do
+ * primário ({@link ReadYourWritesContext}) não se juntam às demais: quem acabou de escrever nunca recebe o resultado
+ * de uma consulta iniciada antes da escrita ou servida por uma réplica.
+ */
+@Slf4j
+public class SingleFlightClientDataServiceAdapter implements ClientDataServicePort {
+
+    static final String METRIC_NAME = "client.data.coalescing";
+    private static final List<String> METHODS = List.of("findById", "findPage");
+    private static final List<String> ROLES = List.of("leader", "follower", "timeout");
+
+    private final ClientDataServicePort delegate;
+    private final Duration waitTimeout;
+    private final Map<FlightKey, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new HashMap<>();
+
+    public SingleFlightClientDataServiceAdapter(ClientDataServicePort delegate, Duration waitTimeout, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.waitTimeout = waitTimeout;
+        METHODS.forEach(method -> ROLES.forEach(role -> counters.put(method + role, Counter.builder(METRIC_NAME)
+                .tag("method", method)
+                .tag("role", role)
+                .register(meterRegistry))));
+    }
+
+    @Override
+    public long deleteReturningCount(UUID clientId, Long expectedVersion) {
+        try {
+            return delegate.deleteReturningCount(clientId, expectedVersion);
+        } finally {
+            detach(List.of(clientId));
+        }
+    }
+
+    @Override
+    public ClientPage<ClientView> findPage(ClientCursor after, int limit) {
+        return coalesce(FlightKey.of("findPage", after, limit), () -> delegate.findPage(after, limit));
+    }
+
+    @Override
+    public ClientPage<ClientView> search(ClientQuery query, ClientCursor after, int limit) {
+        return delegate.search(query, after, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<ClientView> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public ClientChangePage<ClientChangeView> findChanges(ClientChangeCursor after, int limit) {
+        return delegate.findChanges(after, limit);
+    }
+
+    @Override
+    public Optional<ClientView> findById(UUID clientId) {
+        return coalesce(FlightKey.of("findById", clientId, 0), () -> delegate.findById(clientId));
+    }
+
+    @Override
+    public Map<UUID, ClientView> findAllByIds(Collection<UUID> clientIds) {
+        return delegate.findAllByIds(clientIds);
+    }
+
+    @Override
+    public ClientEntity save(ClientEntity client) {
+        try {
+            return delegate.save(client);
+        } finally {
+            detach(List.of(client.getId()));
+        }
+    }
+
+    @Override
+    public Optional<ClientEntity> updateReturning(ClientEntity client) {
+        try {
+            return delegate.updateReturning(client);
+        } finally {
+            detach(List.of(client.getId()));
+        }
+    }
+
+    @Override
+    public List<ClientEntity> saveAll(List<ClientEntity> clients) {
+        try {
+            return delegate.saveAll(clients);
+        } finally {
+            detach(clients.stream().map(ClientEntity::getId).collect(Collectors.toSet()));
+        }
+    }
+
+    @Override
+    public boolean existsById(UUID clientId) {
+        return delegate.existsById(clientId);
+    }
+
+    @Override
+    public boolean existsByCpf(String cpf) {
+        return delegate.existsByCpf(cpf);
+    }
+
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        return delegate.findExistingCpfs(cpfs);
+    }
+
+    /**
+     * Executa a consulta como líder quando não há outra igual em andamento; caso contrário aguarda a do líder.
+     * O registro é removido assim que o líder termina, antes de os seguidores lerem o resultado.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(FlightKey key, Supplier<T> query) {
+        CompletableFuture<T> flight = new CompletableFuture<>();
+        CompletableFuture<T> leader = (CompletableFuture<T>) inFlight.putIfAbsent(key, flight);
+        if (leader == null) {
+            count(key, "leader");
+            try {
+                T result = query.get();
+                flight.complete(result);
+                return result;
+            } catch (RuntimeException e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, flight);
+            }
+        }
+        try {
+            T result = leader.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            count(key, "follower");
+            return result;
+        } catch (TimeoutException e) {
+            count(key, "timeout");
+            log.warn("[coalesce] Gave up waiting {} for in-flight {}, querying directly", waitTimeout, key.method());
+            return query.get();
+        } catch (ExecutionException e) {
+            count(key, "follower");
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight " + key.method(), e);
+        }
+    }
+
+    /**
+     * Retira do mapa as consultas em andamento que a escrita pode ter tornado antigas (o ID escrito e as páginas);
+     * elas continuam para quem já as aguarda, mas novas leituras iniciam outra consulta.
+     */
+    private void detach(Collection<UUID> clientIds) {
+        inFlight.keySet().removeIf(key -> key.method().equals("findPage") || clientIds.contains(key.argument()));
+    }
+
+    private void count(FlightKey key, String role) {
+        counters.get(key.method() + role).increment();
+    }
+
+    /**
+     * Identifica leituras iguais: método, argumento principal (ID ou cursor, podendo ser nulo), tamanho da página
+     * e se a leitura precisa ir ao primário.
+     */
+    private record FlightKey(String method, Object argument, int limit, boolean primaryRequired) {
+
+        static FlightKey of(String method, Object argument, int limit) {
+            return new FlightKey(method, argument, limit, ReadYourWritesContext.isPrimaryRequired());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.nithack.clientService.infra.cache.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nithack.clientService.application.dto.ClientView;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Registra o cache de clientes por ID (Caffeine, política W-TinyLFU) usado na frente do adapter de dados.
+ * Desligado por padrão; ative com {@code client.cache.enabled=true}. A invalidação é local: com várias instâncias,
+ * escritas feitas em outra instância só aparecem aqui quando a entrada expira ({@code ttl} ou {@code negative-ttl}).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "client.cache", name = "enabled", havingValue = "true")
+@Profile("!reactive")
+public class ClientCacheConfig {
+
+    static final String CACHE_NAME = "clients";
+
+    @Bean
+    public AsyncCache<UUID, Optional<ClientView>> clientCache(@Value("${client.cache.maximum-size:10000}") long maximumSize,
+                                                         @Value("${client.cache.ttl:5m}") Duration ttl,
+                                                         @Value("${client.cache.negative-ttl:30s}") Duration negativeTtl,
+                                                         MeterRegistry meterRegistry) {
+        AsyncCache<UUID, Optional<ClientView>> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<UUID, Optional<ClientView>>() {
+                    @Override
+                    public long expireAfterCreate(UUID key, Optional<ClientView> value, long currentTime) {
+                        return (value.isPresent() ? ttl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(UUID key, Optional<ClientView> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(UUID key, Optional<ClientView> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+}
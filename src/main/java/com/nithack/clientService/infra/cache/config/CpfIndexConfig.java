@@ -0,0 +1,24 @@
+package com.nithack.clientService.infra.cache.config;
+
+import com.nithack.clientService.infra.cache.CpfIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Registra o índice de CPFs usado para evitar a consulta ao banco na criação de clientes.
+ * Desative com {@code client.cpf-index.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "client.cpf-index", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Profile("!reactive")
+public class CpfIndexConfig {
+
+    @Bean
+    public CpfIndex cpfIndex(@Value("${client.cpf-index.minimum-capacity:1000000}") long minimumCapacity,
+                             @Value("${client.cpf-index.false-positive-rate:0.01}") double falsePositiveRate) {
+        return new CpfIndex(minimumCapacity, falsePositiveRate);
+    }
+}
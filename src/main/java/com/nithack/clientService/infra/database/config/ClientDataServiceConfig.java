@@ -0,0 +1,90 @@
+package com.nithack.clientService.infra.database.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.port.ClientDataServicePort;
+import com.nithack.clientService.infra.cache.CachingClientDataServiceAdapter;
+import com.nithack.clientService.infra.cache.CpfIndex;
+import com.nithack.clientService.infra.cache.CpfIndexClientDataServiceAdapter;
+import com.nithack.clientService.infra.cache.SingleFlightClientDataServiceAdapter;
+import com.nithack.clientService.infra.database.routing.ReplicaRoutingDataSource;
+import com.nithack.clientService.infra.database.service.ClientDataServiceAdapter;
+import com.nithack.clientService.infra.database.service.GroupCommitClientDataServiceAdapter;
+import com.nithack.clientService.infra.metrics.ObservedClientDataServiceAdapter;
+import com.nithack.clientService.infra.replica.CompactClientStore;
+import com.nithack.clientService.infra.replica.CompactReplicaClientDataServiceAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Monta o {@link ClientDataServicePort} usado pela aplicação, empilhando os decorators
+ * habilitados sobre o adapter JPA: índice de CPF → réplica compacta → cache por ID → single-flight → group commit → métricas → JPA.
+ */
+@Configuration
+@Profile("!reactive")
+public class ClientDataServiceConfig {
+
+    @Bean
+    @Primary
+    public ClientDataServicePort clientDataService(ClientDataServiceAdapter clientDataServiceAdapter,
+                                                   ObjectProvider<AsyncCache<UUID, Optional<ClientView>>> clientCache,
+                                                   ObjectProvider<CpfIndex> cpfIndex,
+                                                   ObjectProvider<GroupCommitClientDataServiceAdapter> groupCommit,
+                                                   ObjectProvider<CompactClientStore> compactClientStore,
+                                                   ObjectProvider<ReplicaRoutingDataSource> replicaRouting,
+                                                   ObservationRegistry observationRegistry,
+                                                   MeterRegistry meterRegistry,
+                                                   @Value("${client.coalescing.enabled:true}") boolean coalescingEnabled,
+                                                   @Value("${client.coalescing.wait-timeout:2s}") Duration coalescingWaitTimeout) {
+        ClientDataServicePort clientDataService = groupCommit.getIfAvailable();
+        if (clientDataService == null) {
+            clientDataService = new ObservedClientDataServiceAdapter(clientDataServiceAdapter, observationRegistry);
+        }
+        if (coalescingEnabled) {
+            clientDataService = new SingleFlightClientDataServiceAdapter(clientDataService, coalescingWaitTimeout, meterRegistry);
+        }
+        AsyncCache<UUID, Optional<ClientView>> cache = clientCache.getIfAvailable();
+        if (cache != null) {
+            ReplicaRoutingDataSource routing = replicaRouting.getIfAvailable();
+            Duration staleReadWindow = routing == null ? Duration.ZERO : routing.getStickyWindow();
+            clientDataService = new CachingClientDataServiceAdapter(clientDataService, cache, staleReadWindow);
+        }
+        CompactClientStore store = compactClientStore.getIfAvailable();
+        if (store != null) {
+            clientDataService = new CompactReplicaClientDataServiceAdapter(clientDataService, store);
+        }
+        CpfIndex index = cpfIndex.getIfAvailable();
+        if (index != null) {
+            clientDataService = new CpfIndexClientDataServiceAdapter(clientDataService, index);
+        }
+        return clientDataService;
+    }
+
+    /**
+     * Agrupa inclusões simultâneas em lotes; é um bean próprio para que a thread de escrita siga o ciclo de vida
+     * do contexto e grave a fila antes de o pool de conexões fechar.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "client.group-commit", name = "enabled", havingValue = "true")
+    public GroupCommitClientDataServiceAdapter groupCommitClientDataService(ClientDataServiceAdapter clientDataServiceAdapter,
+                                                                            ObservationRegistry observationRegistry,
+                                                                            MeterRegistry meterRegistry,
+                                                                            @Value("${client.group-commit.max-batch-size:100}") int maxBatchSize,
+                                                                            @Value("${client.group-commit.max-delay:2ms}") Duration maxDelay,
+                                                                            @Value("${client.group-commit.queue-capacity:10000}") int queueCapacity) {
+        return new GroupCommitClientDataServiceAdapter(
+                new ObservedClientDataServiceAdapter(clientDataServiceAdapter, observationRegistry),
+                meterRegistry, maxBatchSize, maxDelay, queueCapacity);
+    }
+}
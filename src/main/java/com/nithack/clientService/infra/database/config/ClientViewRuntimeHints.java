@@ -0,0 +1,19 @@
+package com.nithack.clientService.infra.database.config;
+
+import com.nithack.clientService.application.dto.ClientView;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * {@link ClientView} é instanciado por reflexão pelo Hibernate nas consultas com {@code select new};
+ * sem esta dica a imagem nativa não encontra o construtor.
+ */
+public class ClientViewRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection()
+                .registerType(ClientView.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
@@ -0,0 +1,40 @@
+package com.nithack.clientService.infra.database.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Dimensiona o pool Hikari quando {@code client.datasource.pool.size} está definido (perfil prod).
+ * Com valor 0 o tamanho é calculado pelos núcleos disponíveis: (núcleos * 2) + 1.
+ * O pool fica com tamanho fixo (minimumIdle = maximumPoolSize), evitando abrir conexões sob pico de carga.
+ */
+@Slf4j
+@Configuration
+@Profile("!reactive")
+public class DataSourcePoolConfig {
+
+    public static int recommendedPoolSize(int cores) {
+        return cores * 2 + 1;
+    }
+
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(@Value("${client.datasource.pool.size:-1}") int size) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (size >= 0 && bean instanceof HikariDataSource dataSource) {
+                    int poolSize = size > 0 ? size : recommendedPoolSize(Runtime.getRuntime().availableProcessors());
+                    dataSource.setMaximumPoolSize(poolSize);
+                    dataSource.setMinimumIdle(poolSize);
+                    log.info("[hikariPoolSizer] Pool {} sized to {} connections", dataSource.getPoolName(), poolSize);
+                }
+                return bean;
+            }
+        };
+    }
+}
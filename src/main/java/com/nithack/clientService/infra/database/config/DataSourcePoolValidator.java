@@ -0,0 +1,93 @@
+package com.nithack.clientService.infra.database.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Confere o dimensionamento do pool na subida da aplicação e registra avisos quando ele
+ * está muito acima ou abaixo do recomendado para os núcleos disponíveis, ou acima do
+ * {@code max_connections} do PostgreSQL. Não impede a subida.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class DataSourcePoolValidator {
+
+    private final DataSource dataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void validatePool() {
+        HikariDataSource hikari = unwrapHikari(dataSource);
+        if (hikari == null) {
+            return;
+        }
+        Integer maxConnections = null;
+        try (Connection connection = hikari.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("show max_connections")) {
+            if (resultSet.next()) {
+                maxConnections = resultSet.getInt(1);
+            }
+        } catch (SQLException e) {
+            log.warn("[validatePool] Could not read max_connections from database: {}", e.getMessage());
+        }
+        List<String> warnings = validate(hikari, Runtime.getRuntime().availableProcessors(), maxConnections);
+        warnings.forEach(warning -> log.warn("[validatePool] Pool {}: {}", hikari.getPoolName(), warning));
+        if (warnings.isEmpty()) {
+            log.info("[validatePool] Pool {} sized with {} connections (min idle {})",
+                    hikari.getPoolName(), hikari.getMaximumPoolSize(), hikari.getMinimumIdle());
+        }
+    }
+
+    /**
+     * Obtém o pool do primário também quando o DataSource é o proxy de roteamento para réplicas.
+     */
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari;
+        }
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    static List<String> validate(HikariConfig config, int cores, Integer maxConnections) {
+        List<String> warnings = new ArrayList<>();
+        int maximumPoolSize = config.getMaximumPoolSize();
+        int recommended = DataSourcePoolConfig.recommendedPoolSize(cores);
+        if (maximumPoolSize > recommended * 2) {
+            warnings.add(String.format("maximumPoolSize %d is more than twice the recommended %d for %d cores; "
+                    + "extra connections contend for CPU and locks in the database", maximumPoolSize, recommended, cores));
+        }
+        if (maximumPoolSize < cores) {
+            warnings.add(String.format("maximumPoolSize %d is below the %d available cores; "
+                    + "requests will queue for connections", maximumPoolSize, cores));
+        }
+        if (config.getMinimumIdle() >= 0 && config.getMinimumIdle() < maximumPoolSize) {
+            warnings.add(String.format("minimumIdle %d is below maximumPoolSize %d; "
+                    + "connections will be opened under load instead of reused", config.getMinimumIdle(), maximumPoolSize));
+        }
+        if (maxConnections != null && maximumPoolSize > maxConnections) {
+            warnings.add(String.format("maximumPoolSize %d exceeds the database max_connections %d",
+                    maximumPoolSize, maxConnections));
+        }
+        return warnings;
+    }
+}
@@ -0,0 +1,74 @@
+package com.nithack.clientService.infra.database.config;
+
+import com.nithack.clientService.infra.database.routing.ReadYourWritesFilter;
+import com.nithack.clientService.infra.database.routing.ReplicaBalancing;
+import com.nithack.clientService.infra.database.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Habilita réplicas de leitura quando {@code client.datasource.replicas.urls} tem ao menos uma URL.
+ * O primário continua configurado por {@code spring.datasource}; cada réplica herda as mesmas
+ * configurações do pool Hikari, trocando apenas a URL e o nome do pool.
+ */
+@Slf4j
+@Configuration
+@Profile("!reactive")
+@ConditionalOnExpression("!'${client.datasource.replicas.urls:}'.isBlank()")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             @Value("${client.datasource.replicas.urls}") List<String> urls,
+                                                             @Value("${client.datasource.replicas.balancing:round-robin}") ReplicaBalancing balancing,
+                                                             @Value("${client.datasource.replicas.sticky-window:2s}") Duration stickyWindow,
+                                                             MeterRegistry meterRegistry) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setJdbcUrl(url.trim());
+            replica.setPoolName("client-replica-" + (replicas.size() + 1));
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(replica.getPoolName(), replica);
+        }
+        log.info("[replicaRoutingDataSource] Routing read-only transactions to {} replicas ({}, sticky window {})",
+                replicas.size(), balancing, stickyWindow);
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, balancing, stickyWindow, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReadYourWritesFilter(replicaRoutingDataSource.getStickyWindow(), Clock.systemUTC());
+    }
+}
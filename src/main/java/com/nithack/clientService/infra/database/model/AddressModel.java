@@ -2,9 +2,8 @@ package com.nithack.clientService.infra.database.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,7 +13,10 @@ import lombok.NoArgsConstructor;
 import java.util.UUID;
 
 @Entity
-@Table(name = "addresses")
+@Table(name = "addresses", indexes = {
+        @Index(name = "idx_addresses_state_city", columnList = "state, city"),
+        @Index(name = "idx_addresses_postal_code", columnList = "postal_code")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,7 +24,6 @@ import java.util.UUID;
 public class AddressModel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
 
     @Column(nullable = false)
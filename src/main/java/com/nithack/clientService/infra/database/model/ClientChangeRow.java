@@ -0,0 +1,42 @@
+package com.nithack.clientService.infra.database.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Linha do feed de alterações lida por consulta nativa, com o estado atual do cliente quando ele ainda existe.
+ */
+public interface ClientChangeRow {
+    Long getTxId();
+
+    Long getSeq();
+
+    String getChangeType();
+
+    UUID getClientId();
+
+    Long getVersion();
+
+    LocalDateTime getChangedAt();
+
+    String getCpf();
+
+    String getName();
+
+    LocalDate getDateOfBirth();
+
+    String getPhone();
+
+    String getStreet();
+
+    String getCity();
+
+    String getState();
+
+    String getPostalCode();
+
+    Long getClientVersion();
+
+    LocalDate getCreatedAt();
+}
@@ -4,29 +4,46 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "clients")
+@Table(name = "clients", indexes = {
+        @Index(name = "idx_clients_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_clients_date_of_birth", columnList = "date_of_birth")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = ClientModel.CPF_CONSTRAINT, columnNames = "cpf"),
+        @UniqueConstraint(name = ClientModel.PHONE_CONSTRAINT, columnNames = "phone")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class ClientModel {
+public class ClientModel implements Persistable<UUID> {
+
+    public static final String CPF_CONSTRAINT = "uk_clients_cpf";
+    public static final String PHONE_CONSTRAINT = "uk_clients_phone";
 
     @Id
     private UUID id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String cpf;
 
     @Column(nullable = false)
@@ -35,7 +52,7 @@ public class ClientModel {
     @Column(nullable = false)
     private LocalDate dateOfBirth;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String phone;
 
     @OneToOne(cascade = CascadeType.ALL)
@@ -47,4 +64,30 @@ public class ClientModel {
 
     @Column(nullable = false)
     private LocalDate updatedAt;
+
+    /**
+     * Incrementada a cada atualização; base do ETag e da verificação de If-Match.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Com o ID atribuído pela aplicação, o Spring Data trataria todo save como merge (SELECT + INSERT).
+     * Marcado como novo, o save vira um persist direto.
+     */
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
@@ -0,0 +1,21 @@
+package com.nithack.clientService.infra.database.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Alteração ainda não publicada, reservada pelo relay do outbox; {@code ageMillis} é o tempo desde a gravação.
+ */
+public interface ClientOutboxRow {
+    Long getSeq();
+
+    String getChangeType();
+
+    UUID getClientId();
+
+    Long getVersion();
+
+    LocalDateTime getChangedAt();
+
+    Long getAgeMillis();
+}
@@ -0,0 +1,36 @@
+package com.nithack.clientService.infra.database.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projeção plana de um cliente com seu endereço, lida diretamente de consultas nativas
+ * sem carregar {@link ClientModel} e {@link AddressModel} no contexto de persistência.
+ */
+public interface ClientRow {
+    UUID getId();
+
+    String getCpf();
+
+    String getName();
+
+    LocalDate getDateOfBirth();
+
+    String getPhone();
+
+    LocalDate getCreatedAt();
+
+    LocalDate getUpdatedAt();
+
+    Long getVersion();
+
+    UUID getAddressId();
+
+    String getStreet();
+
+    String getCity();
+
+    String getState();
+
+    String getPostalCode();
+}
@@ -1,14 +1,156 @@
 package com.nithack.clientService.infra.database.repository;
 
 
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.infra.database.model.ClientChangeRow;
 import com.nithack.clientService.infra.database.model.ClientModel;
+import com.nithack.clientService.infra.database.model.ClientOutboxRow;
+import com.nithack.clientService.infra.database.model.ClientRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface ClientRepository extends JpaRepository<ClientModel, UUID> {
+public interface ClientRepository extends JpaRepository<ClientModel, UUID>, ClientViewRepository {
     Boolean existsByCpf(String cpf);
+
+    @Query("select c.cpf from ClientModel c where c.cpf in :cpfs")
+    List<String> findExistingCpfs(@Param("cpfs") Collection<String> cpfs);
+
+    /**
+     * Projeção de leitura: monta ClientView direto das colunas, sem entidade gerenciada no contexto de persistência.
+     */
+    String SELECT_VIEW = "select new com.nithack.clientService.application.dto.ClientView("
+            + "c.id, c.name, c.cpf, c.phone, c.dateOfBirth, a.city, a.state, a.street, a.postalCode,"
+            + " c.version, c.createdAt)"
+            + " from ClientModel c join c.address a";
+
+    @Query(SELECT_VIEW + " where c.id = :id")
+    Optional<ClientView> findViewById(@Param("id") UUID id);
+
+    /**
+     * Busca vários clientes com um único parâmetro array ({@code = any(?)}): o SQL é o mesmo para qualquer
+     * quantidade de IDs, então o plano preparado é reaproveitado e a busca usa a chave primária.
+     */
+    @Query(value = "select c.id as \"id\", c.cpf as \"cpf\", c.name as \"name\", c.date_of_birth as \"dateOfBirth\","
+            + " c.phone as \"phone\", c.created_at as \"createdAt\", c.updated_at as \"updatedAt\", c.version as \"version\","
+            + " a.id as \"addressId\", a.street as \"street\", a.city as \"city\", a.state as \"state\","
+            + " a.postal_code as \"postalCode\""
+            + " from clients c join addresses a on a.id = c.address_id"
+            + " where c.id = any(:ids)", nativeQuery = true)
+    List<ClientRow> findRowsByIds(@Param("ids") UUID[] ids);
+
+    @Query(SELECT_VIEW + " order by c.createdAt, c.id")
+    List<ClientView> findFirstViewPage(Limit limit);
+
+    @Query(SELECT_VIEW
+            + " where c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)"
+            + " order by c.createdAt, c.id")
+    List<ClientView> findViewPageAfter(@Param("createdAt") LocalDate createdAt, @Param("id") UUID id, Limit limit);
+
+    @Query(SELECT_VIEW)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ClientView> streamAllViews();
+
+    @Query("select c.cpf from ClientModel c")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    Stream<String> streamAllCpfs();
+
+    @Query(value = "with client as ("
+            + " update clients set cpf = :cpf, name = :name, date_of_birth = :dateOfBirth, phone = :phone,"
+            + " updated_at = :updatedAt, version = version + 1"
+            + " where id = :id and version = coalesce(cast(:expectedVersion as bigint), version)"
+            + " returning id, cpf, name, date_of_birth, phone, address_id, created_at, updated_at, version),"
+            + " address as ("
+            + " update addresses set street = :street, city = :city, state = :state, postal_code = :postalCode"
+            + " where id = (select address_id from client)"
+            + " returning id, street, city, state, postal_code),"
+            + " change as (insert into client_changes (client_id, change_type, version)"
+            + " select id, 'UPDATED', version from client)"
+            + " select c.id as \"id\", c.cpf as \"cpf\", c.name as \"name\", c.date_of_birth as \"dateOfBirth\","
+            + " c.phone as \"phone\", c.created_at as \"createdAt\", c.updated_at as \"updatedAt\", c.version as \"version\","
+            + " a.id as \"addressId\", a.street as \"street\", a.city as \"city\", a.state as \"state\","
+            + " a.postal_code as \"postalCode\""
+            + " from client c join address a on a.id = c.address_id", nativeQuery = true)
+    Optional<ClientRow> updateReturning(@Param("id") UUID id, @Param("cpf") String cpf, @Param("name") String name,
+                                        @Param("dateOfBirth") LocalDate dateOfBirth, @Param("phone") String phone,
+                                        @Param("updatedAt") LocalDate updatedAt, @Param("street") String street,
+                                        @Param("city") String city, @Param("state") String state,
+                                        @Param("postalCode") String postalCode,
+                                        @Param("expectedVersion") Long expectedVersion);
+
+    @Modifying
+    @Query(value = "with client as (delete from clients"
+            + " where id = :id and version = coalesce(cast(:expectedVersion as bigint), version)"
+            + " returning id, address_id, version),"
+            + " change as (insert into client_changes (client_id, change_type, version)"
+            + " select id, 'DELETED', version + 1 from client)"
+            + " delete from addresses where id in (select address_id from client)", nativeQuery = true)
+    int deleteReturningCount(@Param("id") UUID id, @Param("expectedVersion") Long expectedVersion);
+
+    /**
+     * Registra no feed a inclusão dos clientes informados, com a versão gravada na inserção.
+     */
+    @Modifying
+    @Query(value = "insert into client_changes (client_id, change_type, version)"
+            + " select id, 'CREATED', version from clients where id in (:ids)", nativeQuery = true)
+    int recordCreated(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Alterações após a posição (txId, seq), apenas de transações abaixo do xmin do snapshot atual: essas já
+     * terminaram, então nenhuma alteração anterior ao token pode aparecer depois que ele for entregue.
+     */
+    @Query(value = "select cast(cast(ch.tx_id as text) as bigint) as \"txId\", ch.seq as \"seq\","
+            + " ch.change_type as \"changeType\", ch.client_id as \"clientId\", ch.version as \"version\","
+            + " ch.changed_at as \"changedAt\", c.cpf as \"cpf\", c.name as \"name\","
+            + " c.date_of_birth as \"dateOfBirth\", c.phone as \"phone\", a.street as \"street\", a.city as \"city\","
+            + " a.state as \"state\", a.postal_code as \"postalCode\", c.version as \"clientVersion\","
+            + " c.created_at as \"createdAt\""
+            + " from client_changes ch"
+            + " left join clients c on c.id = ch.client_id and ch.change_type <> 'DELETED'"
+            + " left join addresses a on a.id = c.address_id"
+            + " where (ch.tx_id, ch.seq) > (cast(cast(:txId as text) as xid8), :seq)"
+            + " and ch.tx_id < pg_snapshot_xmin(pg_current_snapshot())"
+            + " order by ch.tx_id, ch.seq"
+            + " limit :limit", nativeQuery = true)
+    List<ClientChangeRow> findChangesAfter(@Param("txId") long txId, @Param("seq") long seq, @Param("limit") int limit);
+
+    /**
+     * Horizonte do feed: o xmin do snapshot atual. Transações abaixo dele já terminaram, então um snapshot tirado
+     * depois desta consulta enxerga todas elas; as alterações a partir dele ainda precisam ser lidas do feed.
+     */
+    @Query(value = "select cast(cast(pg_snapshot_xmin(pg_current_snapshot()) as text) as bigint)", nativeQuery = true)
+    long findChangeFeedHorizon();
+
+    /**
+     * Reserva as próximas alterações não publicadas; linhas já reservadas por outra instância do relay
+     * são puladas (SKIP LOCKED) em vez de bloquear.
+     */
+    @Query(value = "select seq as \"seq\", change_type as \"changeType\", client_id as \"clientId\","
+            + " version as \"version\", changed_at as \"changedAt\","
+            + " cast(extract(epoch from cast(clock_timestamp() as timestamp) - changed_at) * 1000 as bigint) as \"ageMillis\""
+            + " from client_changes where published_at is null"
+            + " order by seq limit :limit for update skip locked", nativeQuery = true)
+    List<ClientOutboxRow> claimUnpublishedChanges(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "update client_changes set published_at = now() where seq in (:seqs)", nativeQuery = true)
+    int markChangesPublished(@Param("seqs") Collection<Long> seqs);
+
+    @Query(value = "select cast(extract(epoch from cast(clock_timestamp() as timestamp) - changed_at) * 1000 as bigint)"
+            + " from client_changes where published_at is null order by seq limit 1", nativeQuery = true)
+    Optional<Long> findOldestUnpublishedChangeAgeMillis();
 }
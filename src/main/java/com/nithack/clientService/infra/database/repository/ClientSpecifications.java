@@ -0,0 +1,92 @@
+package com.nithack.clientService.infra.database.repository;
+
+import com.nithack.clientService.domain.entity.ClientCursor;
+import com.nithack.clientService.domain.entity.ClientQuery;
+import com.nithack.clientService.infra.database.model.AddressModel;
+import com.nithack.clientService.infra.database.model.ClientModel;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Monta a consulta da busca de clientes apenas com os filtros informados, para que o banco
+ * use os índices de cada filtro (trigram em name, (state, city) e postal_code em addresses).
+ */
+public class ClientSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ClientSpecifications() {
+        throw new RuntimeException("Util Class");
+    }
+
+    /**
+     * Filtros da busca; reaproveita o join de address já declarado pela consulta (usado na projeção) ou cria um.
+     */
+    public static Specification<ClientModel> search(ClientQuery query, ClientCursor after) {
+        return (root, criteriaQuery, criteriaBuilder) -> {
+            HibernateCriteriaBuilder builder = (HibernateCriteriaBuilder) criteriaBuilder;
+            Join<ClientModel, AddressModel> address = addressJoin(root);
+            List<Predicate> predicates = new ArrayList<>();
+            if (hasText(query.getNamePrefix())) {
+                predicates.add(builder.ilike(root.get("name"), toPrefixPattern(query.getNamePrefix()), LIKE_ESCAPE));
+            }
+            if (hasText(query.getState())) {
+                predicates.add(builder.equal(address.get("state"), query.getState()));
+            }
+            if (hasText(query.getCity())) {
+                predicates.add(builder.equal(address.get("city"), query.getCity()));
+            }
+            if (hasText(query.getPostalCode())) {
+                predicates.add(builder.equal(address.get("postalCode"), query.getPostalCode()));
+            }
+            if (query.getBornFrom() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.get("dateOfBirth"), query.getBornFrom()));
+            }
+            if (query.getBornTo() != null) {
+                predicates.add(builder.lessThanOrEqualTo(root.get("dateOfBirth"), query.getBornTo()));
+            }
+            if (after != null) {
+                predicates.add(builder.or(
+                        builder.greaterThan(root.get("createdAt"), after.getCreatedAt()),
+                        builder.and(
+                                builder.equal(root.get("createdAt"), after.getCreatedAt()),
+                                builder.greaterThan(root.get("id"), after.getId()))));
+            }
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Join<ClientModel, AddressModel> addressJoin(Root<ClientModel> root) {
+        for (Join<ClientModel, ?> join : root.getJoins()) {
+            if ("address".equals(join.getAttribute().getName())) {
+                return (Join<ClientModel, AddressModel>) join;
+            }
+        }
+        return root.join("address");
+    }
+
+    /**
+     * Escapa os curingas do LIKE para que o prefixo informado seja tratado literalmente.
+     */
+    public static String toPrefixPattern(String prefix) {
+        StringBuilder pattern = new StringBuilder(prefix.length() + 1);
+        for (char c : prefix.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    public static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
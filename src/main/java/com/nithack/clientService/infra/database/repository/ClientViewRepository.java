@@ -0,0 +1,23 @@
+package com.nithack.clientService.infra.database.repository;
+
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.domain.entity.ClientCursor;
+import com.nithack.clientService.domain.entity.ClientQuery;
+
+import java.util.List;
+
+/**
+ * Consultas de leitura com filtros dinâmicos que projetam direto em {@link ClientView}.
+ */
+public interface ClientViewRepository {
+
+    /**
+     * Busca os clientes que atendem aos filtros, ordenados por (createdAt, id), a partir do cursor informado.
+     *
+     * @param query filtros da busca; filtros nulos são ignorados.
+     * @param after posição após a qual a busca começa, ou null para o início.
+     * @param limit quantidade máxima de registros.
+     * @return clientes encontrados, já projetados.
+     */
+    List<ClientView> searchViews(ClientQuery query, ClientCursor after, int limit);
+}
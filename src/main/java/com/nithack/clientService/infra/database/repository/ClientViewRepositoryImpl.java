@@ -0,0 +1,42 @@
+package com.nithack.clientService.infra.database.repository;
+
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.domain.entity.ClientCursor;
+import com.nithack.clientService.domain.entity.ClientQuery;
+import com.nithack.clientService.infra.database.model.AddressModel;
+import com.nithack.clientService.infra.database.model.ClientModel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Implementação do fragmento {@link ClientViewRepository}: aplica os filtros de {@link ClientSpecifications}
+ * em uma consulta com {@code select new ClientView(...)}, sem carregar entidades.
+ */
+@RequiredArgsConstructor
+public class ClientViewRepositoryImpl implements ClientViewRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<ClientView> searchViews(ClientQuery query, ClientCursor after, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ClientView> criteriaQuery = builder.createQuery(ClientView.class);
+        Root<ClientModel> root = criteriaQuery.from(ClientModel.class);
+        Join<ClientModel, AddressModel> address = root.join("address");
+        criteriaQuery.select(builder.construct(ClientView.class,
+                        root.get("id"), root.get("name"), root.get("cpf"), root.get("phone"), root.get("dateOfBirth"),
+                        address.get("city"), address.get("state"), address.get("street"), address.get("postalCode"),
+                        root.get("version"), root.get("createdAt")))
+                .where(ClientSpecifications.search(query, after).toPredicate(root, criteriaQuery, builder))
+                .orderBy(builder.asc(root.get("createdAt")), builder.asc(root.get("id")));
+        return entityManager.createQuery(criteriaQuery)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,26 @@
+package com.nithack.clientService.infra.database.routing;
+
+/**
+ * Marca, na thread atual, que as leituras devem ir para o primário mesmo em transações somente leitura,
+ * para que quem acabou de escrever leia a própria escrita antes de ela chegar às réplicas.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+        throw new RuntimeException("Util Class");
+    }
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+}
@@ -0,0 +1,79 @@
+package com.nithack.clientService.infra.database.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Garante leitura da própria escrita com réplicas: toda requisição de escrita devolve o cookie
+ * {@value #LAST_WRITE_COOKIE} com o instante da escrita, e as requisições do mesmo chamador dentro da
+ * janela de aderência leem do primário. Requisições de escrita também leem do primário durante toda a execução.
+ * O multi-get ({@code POST /clients/lookup}) é só consulta e é tratado como leitura.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String LAST_WRITE_COOKIE = "client-last-write";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final Set<String> READ_ONLY_PATHS = Set.of("/clients/lookup");
+
+    private final Duration stickyWindow;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration stickyWindow, Clock clock) {
+        this.stickyWindow = stickyWindow;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = clock.millis();
+        boolean write = !READ_METHODS.contains(request.getMethod())
+                && !READ_ONLY_PATHS.contains(request.getServletPath());
+        if (write) {
+            response.addCookie(lastWriteCookie(now));
+        }
+        if (write || wroteRecently(request, now)) {
+            ReadYourWritesContext.requirePrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private boolean wroteRecently(HttpServletRequest request, long now) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                try {
+                    return now - Long.parseLong(cookie.getValue()) < stickyWindow.toMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Cookie lastWriteCookie(long now) {
+        Cookie cookie = new Cookie(LAST_WRITE_COOKIE, Long.toString(now));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, stickyWindow.toSeconds() + 1));
+        return cookie;
+    }
+}
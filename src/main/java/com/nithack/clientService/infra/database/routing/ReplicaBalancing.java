@@ -0,0 +1,11 @@
+package com.nithack.clientService.infra.database.routing;
+
+/**
+ * Estratégia de escolha da réplica para uma leitura.
+ */
+public enum ReplicaBalancing {
+    /** Alterna entre as réplicas em ordem. */
+    ROUND_ROBIN,
+    /** Escolhe a réplica com menos conexões em uso e threads aguardando conexão. */
+    LEAST_CONNECTIONS
+}
@@ -0,0 +1,149 @@
+package com.nithack.clientService.infra.database.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Roteia cada conexão para o primário ou para uma réplica. Vão para as réplicas apenas transações
+ * somente leitura ({@code @Transactional(readOnly = true)}) fora de uma janela de leitura da própria escrita
+ * ({@link ReadYourWritesContext}); todo o resto, inclusive escritas e consultas sem transação, usa o primário.
+ * <p>
+ * A decisão depende do estado da transação, por isso este DataSource deve ficar atrás de um
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, que só obtém a conexão física
+ * no primeiro comando, depois de a transação ter sido marcada como somente leitura.
+ * Se a réplica escolhida não entregar conexão, a leitura cai no primário.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+    static final String ROUTING_METRIC = "client.datasource.routing";
+    static final String FALLBACK_METRIC = "client.datasource.routing.fallback";
+
+    private final DataSource primary;
+    private final List<String> replicaNames;
+    private final Map<String, HikariDataSource> replicas;
+    private final ReplicaBalancing balancing;
+    @Getter
+    private final Duration stickyWindow;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Map<String, Counter> routed = new HashMap<>();
+    private final Counter fallbacks;
+
+    /**
+     * @param primary DataSource do primário.
+     * @param replicas pools das réplicas, indexados pelo nome do pool.
+     * @param balancing estratégia de escolha da réplica.
+     * @param stickyWindow janela em que o chamador lê do primário depois de escrever.
+     * @param meterRegistry registro das métricas de roteamento.
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, HikariDataSource> replicas, ReplicaBalancing balancing,
+                                    Duration stickyWindow, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaNames = new ArrayList<>(replicas.keySet());
+        this.balancing = balancing;
+        this.stickyWindow = stickyWindow;
+        routed.put(PRIMARY, Counter.builder(ROUTING_METRIC).tag("target", PRIMARY).register(meterRegistry));
+        replicaNames.forEach(name -> routed.put(name, Counter.builder(ROUTING_METRIC).tag("target", name).register(meterRegistry)));
+        this.fallbacks = Counter.builder(FALLBACK_METRIC).register(meterRegistry);
+
+        Map<Object, Object> targets = new LinkedHashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        initialize();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaNames.isEmpty()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReadYourWritesContext.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+        return balancing == ReplicaBalancing.LEAST_CONNECTIONS ? leastConnections() : roundRobin();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection((String) determineCurrentLookupKey(), null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection((String) determineCurrentLookupKey(), username, password);
+    }
+
+    private Connection getConnection(String target, String username, String password) throws SQLException {
+        if (!PRIMARY.equals(target)) {
+            try {
+                Connection connection = connect(replicas.get(target), username, password);
+                routed.get(target).increment();
+                return connection;
+            } catch (SQLException e) {
+                log.warn("[getConnection] Replica {} unavailable, reading from primary: {}", target, e.getMessage());
+                fallbacks.increment();
+            }
+        }
+        Connection connection = connect(primary, username, password);
+        routed.get(PRIMARY).increment();
+        return connection;
+    }
+
+    private static Connection connect(DataSource dataSource, String username, String password) throws SQLException {
+        return username == null ? dataSource.getConnection() : dataSource.getConnection(username, password);
+    }
+
+    private String roundRobin() {
+        return replicaNames.get(Math.floorMod(nextReplica.getAndIncrement(), replicaNames.size()));
+    }
+
+    /**
+     * Escolhe a réplica com menos conexões ativas mais threads aguardando; o ponto de partida gira
+     * entre as réplicas para que empates não concentrem a carga na primeira.
+     */
+    private String leastConnections() {
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicaNames.size());
+        String selected = null;
+        int lowest = Integer.MAX_VALUE;
+        for (int i = 0; i < replicaNames.size(); i++) {
+            String name = replicaNames.get((start + i) % replicaNames.size());
+            int load = load(replicas.get(name));
+            if (load < lowest) {
+                lowest = load;
+                selected = name;
+            }
+        }
+        return selected;
+    }
+
+    private static int load(HikariDataSource replica) {
+        HikariPoolMXBean pool = replica.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
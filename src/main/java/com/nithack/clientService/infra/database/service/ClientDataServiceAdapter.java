@@ -1,18 +1,41 @@
 package com.nithack.clientService.infra.database.service;
 
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.exception.ClientAlreadyExistsException;
 import com.nithack.clientService.application.mapper.ClientMapper;
 import com.nithack.clientService.application.port.ClientDataServicePort;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientCursor;
 import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
 import com.nithack.clientService.infra.database.model.ClientModel;
 import com.nithack.clientService.infra.database.repository.ClientRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.context.annotation.Profile;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adapter para operações de persistência de dados de clientes,
@@ -20,103 +43,301 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ClientDataServiceAdapter implements ClientDataServicePort {
 
+    static final int BATCH_SIZE = 50;
+
     private final ClientRepository clientRepository;
+    private final EntityManager entityManager;
 
     /**
-     * Exclui um cliente pelo ID.
+     * Exclui o cliente e seu endereço em um único DELETE, sem consultar o cliente antes;
+     * a versão esperada, quando informada, entra na própria condição do DELETE.
      *
      * @param clientId UUID do cliente.
+     * @param expectedVersion versão esperada, ou null para excluir sem verificar.
+     * @return quantidade de clientes excluídos.
      */
     @Override
-    public void deleteById(UUID clientId) {
-        log.info("[deleteById] Deleting client with id: {}", clientId);
+    @Transactional
+    public long deleteReturningCount(UUID clientId, Long expectedVersion) {
+        log.debug("[deleteReturningCount] Deleting client with id: {}", clientId);
         try {
-            clientRepository.deleteById(clientId);
-            log.info("[deleteById] Successfully deleted client with id: {}", clientId);
+            long deleted = clientRepository.deleteReturningCount(clientId, expectedVersion);
+            log.debug("[deleteReturningCount] Deleted {} clients with id: {}", deleted, clientId);
+            return deleted;
         } catch (Exception e) {
-            log.error("[deleteById] Error deleting client with id: {}", clientId, e);
+            log.error("[deleteReturningCount] Error deleting client with id: {}", clientId, e);
             throw e;
         } finally {
-            log.info("[deleteById] Finished deleting client with id: {}", clientId);
+            log.debug("[deleteReturningCount] Finished deleting client with id: {}", clientId);
         }
     }
 
     /**
-     * Retorna todos os clientes cadastrados, convertendo-os para ClientEntity.
+     * Busca uma página de clientes usando keyset em (createdAt, id), projetando cada linha direto em ClientView.
+     * Consulta um registro a mais que o limite para saber se existe próxima página.
+     * As consultas marcadas como somente leitura, sem abrir transação (SUPPORTS), podem ser servidas por réplicas.
      *
-     * @return lista de ClientEntity.
+     * @param after posição após a qual a página começa, ou null para a primeira página.
+     * @param limit quantidade máxima de clientes na página.
+     * @return ClientPage com os clientes e o cursor da próxima página, se houver.
      */
     @Override
-    public List<ClientEntity> findAll() {
-        log.info("[findAll] Retrieving all clients from database");
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public ClientPage<ClientView> findPage(ClientCursor after, int limit) {
+        log.debug("[findPage] Retrieving page of {} clients from database", limit);
         try {
-            List<ClientModel> clientModels = clientRepository.findAll();
-            if (clientModels.isEmpty()) {
-                log.warn("[findAll] No clients found");
-                return List.of();
-            }
-            log.info("[findAll] Successfully found {} clients, start mapping", clientModels.size());
-            List<ClientEntity> clientEntities = clientModels.stream()
-                    .map(ClientMapper::toEntity)
-                    .collect(Collectors.toList());
-            log.info("[findAll] Successfully mapped {} clients", clientEntities.size());
-            return clientEntities;
+            Limit fetchLimit = Limit.of(limit + 1);
+            List<ClientView> clientViews = after == null
+                    ? clientRepository.findFirstViewPage(fetchLimit)
+                    : clientRepository.findViewPageAfter(after.getCreatedAt(), after.getId(), fetchLimit);
+            ClientPage<ClientView> page = toPage(clientViews, limit);
+            log.debug("[findPage] Successfully found {} clients, has next page: {}", page.getClients().size(), page.getNext() != null);
+            return page;
+        } catch (Exception e) {
+            log.error("[findPage] Error retrieving page of clients from database", e);
+            throw e;
+        } finally {
+            log.debug("[findPage] Finished retrieving page of clients from database");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public ClientPage<ClientView> search(ClientQuery query, ClientCursor after, int limit) {
+        log.debug("[search] Searching page of {} clients in database", limit);
+        try {
+            List<ClientView> clientViews = clientRepository.searchViews(query, after, limit + 1);
+            ClientPage<ClientView> page = toPage(clientViews, limit);
+            log.debug("[search] Successfully found {} clients, has next page: {}", page.getClients().size(), page.getNext() != null);
+            return page;
+        } catch (Exception e) {
+            log.error("[search] Error searching clients in database", e);
+            throw e;
+        } finally {
+            log.debug("[search] Finished searching clients in database");
+        }
+    }
+
+    /**
+     * Monta a página a partir de até limit + 1 registros; o registro excedente indica que há próxima página.
+     */
+    private static ClientPage<ClientView> toPage(List<ClientView> clientViews, int limit) {
+        if (clientViews.size() <= limit) {
+            return new ClientPage<>(clientViews, null);
+        }
+        List<ClientView> pageViews = clientViews.subList(0, limit);
+        ClientView last = pageViews.get(limit - 1);
+        return new ClientPage<>(pageViews, new ClientCursor(last.getCreatedAt(), last.getId()));
+    }
+
+    /**
+     * Busca as alterações após a posição informada; consulta uma alteração a mais que o limite
+     * para saber se já existem outras além da página.
+     *
+     * @param after posição após a qual a página começa.
+     * @param limit quantidade máxima de alterações na página.
+     * @return ClientChangePage com as alterações e a posição da última entregue.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ClientChangePage<ClientChangeView> findChanges(ClientChangeCursor after, int limit) {
+        log.debug("[findChanges] Retrieving page of {} client changes from database", limit);
+        try {
+            List<ClientChangeView> changes = clientRepository.findChangesAfter(after.getTxId(), after.getSeq(), limit + 1)
+                    .stream().map(ClientMapper::toChangeView).toList();
+            boolean hasMore = changes.size() > limit;
+            List<ClientChangeView> pageChanges = hasMore ? changes.subList(0, limit) : changes;
+            ClientChangeCursor next = pageChanges.isEmpty() ? after
+                    : new ClientChangeCursor(pageChanges.getLast().getTxId(), pageChanges.getLast().getSeq());
+            log.debug("[findChanges] Successfully retrieved {} client changes, has more: {}", pageChanges.size(), hasMore);
+            return new ClientChangePage<>(pageChanges, next, hasMore);
         } catch (Exception e) {
-            log.error("[findAll] Error retrieving all clients from database", e);
+            log.error("[findChanges] Error retrieving page of client changes from database", e);
             throw e;
         } finally {
-            log.info("[findAll] Finished retrieving all clients from database");
+            log.debug("[findChanges] Finished retrieving page of client changes");
         }
     }
 
     /**
-     * Busca um cliente pelo ID, retornando-o como ClientEntity.
+     * Percorre todos os clientes com um cursor JDBC. Cada linha vira um ClientView fora do
+     * contexto de persistência, então o uso de memória fica constante sem detach por registro.
+     *
+     * @param consumer consumidor chamado para cada cliente lido.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<ClientView> consumer) {
+        log.debug("[streamAll] Streaming all clients from database");
+        try (Stream<ClientView> clientViews = clientRepository.streamAllViews()) {
+            clientViews.forEach(consumer);
+            log.debug("[streamAll] Successfully streamed all clients");
+        } catch (Exception e) {
+            log.error("[streamAll] Error streaming clients from database", e);
+            throw e;
+        } finally {
+            log.debug("[streamAll] Finished streaming all clients from database");
+        }
+    }
+
+    /**
+     * Busca a projeção de leitura de um cliente pelo ID, sem carregar ClientModel e AddressModel.
      *
      * @param clientId UUID do cliente.
-     * @return Optional com ClientEntity, ou vazio se não encontrado.
+     * @return Optional com ClientView, ou vazio se não encontrado.
      */
     @Override
-    public Optional<ClientEntity> findById(UUID clientId) {
-        log.info("[findById] Retrieving client with id: {}", clientId);
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Optional<ClientView> findById(UUID clientId) {
+        log.debug("[findById] Retrieving client with id: {}", clientId);
         try {
-            Optional<ClientModel> clientModel = clientRepository.findById(clientId);
-            log.info("[findById] Start mapping client with id: {}", clientId);
-            Optional<ClientEntity> clientEntity = clientModel.map(ClientMapper::toEntity);
-            log.info("[findById] Successfully mapped client with id: {}", clientId);
-            return clientEntity;
+            Optional<ClientView> clientView = clientRepository.findViewById(clientId);
+            log.debug("[findById] Client with id: {} found: {}", clientId, clientView.isPresent());
+            return clientView;
         } catch (Exception e) {
             log.error("[findById] Error retrieving client with id: {}", clientId, e);
             throw e;
         } finally {
-            log.info("[findById] Finished retrieving client with id: {}", clientId);
+            log.debug("[findById] Finished retrieving client with id: {}", clientId);
         }
     }
 
     /**
-     * Salva ou atualiza um cliente, mapeando de ClientEntity para ClientModel.
+     * Busca vários clientes em uma única consulta {@code where id = any(?)}, já com o endereço,
+     * passando os IDs sem repetição como um único parâmetro array.
+     *
+     * @param clientIds IDs dos clientes.
+     * @return ClientView dos clientes encontrados, indexados pelo ID.
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Map<UUID, ClientView> findAllByIds(Collection<UUID> clientIds) {
+        UUID[] ids = new LinkedHashSet<>(clientIds).toArray(UUID[]::new);
+        log.debug("[findAllByIds] Retrieving {} clients from database", ids.length);
+        if (ids.length == 0) {
+            return Map.of();
+        }
+        try {
+            Map<UUID, ClientView> clients = new HashMap<>(ids.length * 2);
+            clientRepository.findRowsByIds(ids).forEach(row -> clients.put(row.getId(), ClientMapper.toView(row)));
+            log.debug("[findAllByIds] Found {} of {} clients", clients.size(), ids.length);
+            return clients;
+        } catch (Exception e) {
+            log.error("[findAllByIds] Error retrieving {} clients from database", ids.length, e);
+            throw e;
+        } finally {
+            log.debug("[findAllByIds] Finished retrieving clients from database");
+        }
+    }
+
+    /**
+     * Insere um novo cliente, mapeando de ClientEntity para ClientModel. O modelo é marcado
+     * como novo para que o repositório faça persist em vez de merge (sem SELECT prévio).
+     * A inclusão é registrada no feed de alterações na mesma transação.
      *
      * @param clientEntity o cliente a ser salvo.
      * @return ClientEntity salvo.
+     * @throws ClientAlreadyExistsException se a constraint única de CPF ou de telefone for violada.
      */
     @Override
+    @Transactional
     public ClientEntity save(ClientEntity clientEntity) {
-        log.info("[save] Saving client with id: {}", clientEntity.getId());
+        log.debug("[save] Saving client with id: {}", clientEntity.getId());
         try {
             ClientModel clientModel = ClientMapper.toModel(clientEntity);
-            ClientModel savedClient = clientRepository.save(clientModel);
-            log.info("[save] Successfully saved client with id: {}", savedClient.getId());
-            log.info("[save] Start mapping saved client with id: {}", savedClient.getId());
+            clientModel.setNewEntity(true);
+            ClientModel savedClient = saveModel(clientModel);
+            clientRepository.recordCreated(List.of(savedClient.getId()));
+            log.debug("[save] Successfully saved client with id: {}", savedClient.getId());
+            log.debug("[save] Start mapping saved client with id: {}", savedClient.getId());
             ClientEntity savedClientEntity = ClientMapper.toEntity(savedClient);
-            log.info("[save] Successfully mapped saved client with id: {}", savedClient.getId());
+            log.debug("[save] Successfully mapped saved client with id: {}", savedClient.getId());
             return savedClientEntity;
         } catch (Exception e) {
             log.error("[save] Error saving client with id: {}", clientEntity.getId());
             throw e;
         } finally {
-            log.info("[save] Finished saving client with id: {}", clientEntity.getId());
+            log.debug("[save] Finished saving client with id: {}", clientEntity.getId());
+        }
+    }
+
+    /**
+     * Atualiza cliente e endereço em um único UPDATE ... RETURNING; a data de criação
+     * permanece a do banco e nenhuma entidade é carregada no contexto de persistência.
+     * A versão é incrementada no mesmo comando e, quando informada, comparada na condição do UPDATE.
+     *
+     * @param clientEntity dados atualizados do cliente.
+     * @return Optional com o cliente atualizado, ou vazio se não existir.
+     * @throws ClientAlreadyExistsException se a constraint única de CPF ou de telefone for violada.
+     */
+    @Override
+    @Transactional
+    public Optional<ClientEntity> updateReturning(ClientEntity clientEntity) {
+        log.debug("[updateReturning] Updating client with id: {}", clientEntity.getId());
+        try {
+            Optional<ClientEntity> updatedClient = clientRepository.updateReturning(
+                    clientEntity.getId(), clientEntity.getCpf(), clientEntity.getName(), clientEntity.getDateOfBirth(),
+                    clientEntity.getPhone(), clientEntity.getUpdatedAt(), clientEntity.getAddress().getStreet(),
+                    clientEntity.getAddress().getCity(), clientEntity.getAddress().getState(),
+                    clientEntity.getAddress().getPostalCode(), clientEntity.getVersion()
+            ).map(ClientMapper::toEntity);
+            log.debug("[updateReturning] Client with id: {} updated: {}", clientEntity.getId(), updatedClient.isPresent());
+            return updatedClient;
+        } catch (DataIntegrityViolationException e) {
+            ClientAlreadyExistsException conflict = toConflict(e, clientEntity.getCpf(), clientEntity.getPhone());
+            if (conflict != null) {
+                log.warn("[updateReturning] Client with cpf or phone already exists");
+                throw conflict;
+            }
+            log.error("[updateReturning] Error updating client with id: {}", clientEntity.getId());
+            throw e;
+        } catch (Exception e) {
+            log.error("[updateReturning] Error updating client with id: {}", clientEntity.getId());
+            throw e;
+        } finally {
+            log.debug("[updateReturning] Finished updating client with id: {}", clientEntity.getId());
+        }
+    }
+
+    /**
+     * Insere um lote de novos clientes com um único flush por grupo de {@value #BATCH_SIZE},
+     * permitindo que o Hibernate agrupe os INSERTs de clientes e endereços em batches JDBC.
+     * As inclusões do lote são registradas no feed de alterações com um único INSERT.
+     *
+     * Se alguma linha violar uma constraint, o lote inteiro é desfeito.
+     *
+     * @param clientEntities clientes novos a serem inseridos.
+     * @return lista de ClientEntity inseridos, na mesma ordem recebida.
+     */
+    @Override
+    @Transactional
+    public List<ClientEntity> saveAll(List<ClientEntity> clientEntities) {
+        log.debug("[saveAll] Saving batch of {} clients", clientEntities.size());
+        try {
+            List<ClientEntity> savedClients = new ArrayList<>(clientEntities.size());
+            for (int i = 0; i < clientEntities.size(); i++) {
+                ClientModel clientModel = ClientMapper.toModel(clientEntities.get(i));
+                entityManager.persist(clientModel);
+                savedClients.add(ClientMapper.toEntity(clientModel));
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+            clientRepository.recordCreated(savedClients.stream().map(ClientEntity::getId).toList());
+            log.debug("[saveAll] Successfully saved batch of {} clients", savedClients.size());
+            return savedClients;
+        } catch (Exception e) {
+            log.error("[saveAll] Error saving batch of {} clients", clientEntities.size(), e);
+            throw e;
+        } finally {
+            log.debug("[saveAll] Finished saving batch of clients");
         }
     }
 
@@ -128,10 +349,10 @@ public class ClientDataServiceAdapter implements ClientDataServicePort {
      */
     @Override
     public boolean existsById(UUID clientId) {
-        log.info("[existsById] Checking if client exists with id: {}", clientId);
+        log.debug("[existsById] Checking if client exists with id: {}", clientId);
         try {
             boolean exists = clientRepository.existsById(clientId);
-            log.info("[existsById] Client with id: {} exists: {}", clientId, exists);
+            log.debug("[existsById] Client with id: {} exists: {}", clientId, exists);
             return exists;
         } catch (Exception e) {
             log.error("[existsById] Error checking existence of client with id: {}", clientId);
@@ -147,14 +368,67 @@ public class ClientDataServiceAdapter implements ClientDataServicePort {
      */
     @Override
     public boolean existsByCpf(String cpf) {
-        log.info("[existsByCpf] Checking if client exists CPF");
+        log.debug("[existsByCpf] Checking if client exists CPF");
         try {
             boolean exists = clientRepository.existsByCpf(cpf);
-            log.info("[existsByCpf] Client with CPF exists: {}", exists);
+            log.debug("[existsByCpf] Client with CPF exists: {}", exists);
             return exists;
         } catch (Exception e) {
             log.error("[existsByCpf] Error checking existence of client CPF");
             throw e;
         }
     }
+
+    /**
+     * Busca, em uma única consulta, quais dos CPFs informados já estão cadastrados.
+     *
+     * @param cpfs CPFs a serem verificados.
+     * @return conjunto com os CPFs já existentes.
+     */
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        log.debug("[findExistingCpfs] Checking {} CPFs", cpfs.size());
+        try {
+            if (cpfs.isEmpty()) {
+                return Set.of();
+            }
+            Set<String> existing = new HashSet<>(clientRepository.findExistingCpfs(cpfs));
+            log.debug("[findExistingCpfs] Found {} existing CPFs", existing.size());
+            return existing;
+        } catch (Exception e) {
+            log.error("[findExistingCpfs] Error checking existing CPFs");
+            throw e;
+        }
+    }
+
+    private ClientModel saveModel(ClientModel clientModel) {
+        try {
+            return clientRepository.saveAndFlush(clientModel);
+        } catch (DataIntegrityViolationException e) {
+            ClientAlreadyExistsException conflict = toConflict(e, clientModel.getCpf(), clientModel.getPhone());
+            if (conflict != null) {
+                log.warn("[save] Client with cpf or phone already exists");
+                throw conflict;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Converte a violação das constraints únicas de CPF ou telefone em ClientAlreadyExistsException.
+     *
+     * @return a exceção de conflito, ou null se a violação for de outra constraint.
+     */
+    private static ClientAlreadyExistsException toConflict(DataIntegrityViolationException e, String cpf, String phone) {
+        if (!(e.getCause() instanceof ConstraintViolationException violation)) {
+            return null;
+        }
+        if (ClientModel.CPF_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName())) {
+            return new ClientAlreadyExistsException(cpf);
+        }
+        if (ClientModel.PHONE_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName())) {
+            return new ClientAlreadyExistsException("phone", phone);
+        }
+        return null;
+    }
 }
@@ -0,0 +1,266 @@
+package com.nithack.clientService.infra.database.service;
+
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.exception.ClientAlreadyExistsException;
+import com.nithack.clientService.application.port.ClientDataServicePort;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientCursor;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Decorator de {@link ClientDataServicePort} que agrupa inclusões simultâneas (group commit): cada {@code save}
+ * entra em uma fila limitada e sem locks, e uma única thread grava a fila em lotes com {@code saveAll}, ou seja,
+ * uma transação e um commit para até {@code maxBatchSize} clientes, esperando no máximo {@code maxDelay} para
+ * completar o lote. Cada chamador aguarda o resultado da própria linha.
+ * <p>
+ * CPFs repetidos dentro do lote falham só na linha repetida. Se o lote inteiro falhar (CPF gravado por outra
+ * instância, telefone duplicado...), as linhas são regravadas uma a uma para que cada chamador receba o próprio erro,
+ * como {@link ClientAlreadyExistsException}. Com a fila cheia ou a thread parada, o {@code save} vai direto ao banco.
+ */
+@Slf4j
+public class GroupCommitClientDataServiceAdapter implements ClientDataServicePort, SmartLifecycle {
+
+    static final String BATCH_METRIC = "client.group-commit.batch";
+    static final String OVERFLOW_METRIC = "client.group-commit.overflow";
+    static final String BATCH_FAILED_METRIC = "client.group-commit.batch.failed";
+
+    private final ClientDataServicePort delegate;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final int queueCapacity;
+
+    private final ConcurrentLinkedQueue<PendingSave> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final DistributionSummary batchSizes;
+    private final Counter overflows;
+    private final Counter failedBatches;
+
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    public GroupCommitClientDataServiceAdapter(ClientDataServicePort delegate, MeterRegistry meterRegistry,
+                                               int maxBatchSize, Duration maxDelay, int queueCapacity) {
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+        this.queueCapacity = queueCapacity;
+        this.batchSizes = DistributionSummary.builder(BATCH_METRIC).baseUnit("clients").register(meterRegistry);
+        this.overflows = Counter.builder(OVERFLOW_METRIC).register(meterRegistry);
+        this.failedBatches = Counter.builder(BATCH_FAILED_METRIC).register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        log.info("[start] Starting client group commit writer with batch size {} and max delay {}", maxBatchSize, maxDelay);
+        running = true;
+        writer = Thread.ofPlatform().name("client-group-commit").daemon().start(this::write);
+    }
+
+    /**
+     * Para de aceitar novas inclusões na fila e aguarda a thread gravar o que já estava enfileirado.
+     */
+    @Override
+    public void stop() {
+        log.info("[stop] Stopping client group commit writer");
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(Duration.ofSeconds(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Para depois do servidor web, que antes aguarda as requisições em andamento e, com elas, as inclusões na fila.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public ClientEntity save(ClientEntity client) {
+        if (!running) {
+            return delegate.save(client);
+        }
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            overflows.increment();
+            return delegate.save(client);
+        }
+        PendingSave pending = new PendingSave(client, new CompletableFuture<>());
+        queue.add(pending);
+        if (!running && queue.remove(pending)) {
+            queued.decrementAndGet();
+            return delegate.save(client);
+        }
+        LockSupport.unpark(writer);
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void write() {
+        List<PendingSave> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            PendingSave first = queue.poll();
+            if (first == null) {
+                if (running) {
+                    LockSupport.parkNanos(this, maxDelay.toNanos() > 0 ? maxDelay.toNanos() : 1_000_000);
+                }
+                continue;
+            }
+            batch.add(first);
+            long deadline = System.nanoTime() + maxDelay.toNanos();
+            while (batch.size() < maxBatchSize) {
+                PendingSave next = queue.poll();
+                if (next != null) {
+                    batch.add(next);
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !running) {
+                    break;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            queued.addAndGet(-batch.size());
+            try {
+                flush(batch);
+            } catch (Throwable t) {
+                log.error("[write] Unexpected error writing batch of {} clients", batch.size(), t);
+                batch.forEach(pending -> pending.result().completeExceptionally(t));
+            }
+            batch.clear();
+        }
+    }
+
+    private void flush(List<PendingSave> batch) {
+        batchSizes.record(batch.size());
+        Set<String> cpfs = new HashSet<>();
+        List<PendingSave> unique = new ArrayList<>(batch.size());
+        for (PendingSave pending : batch) {
+            if (cpfs.add(pending.client().getCpf())) {
+                unique.add(pending);
+            } else {
+                pending.result().completeExceptionally(new ClientAlreadyExistsException(pending.client().getCpf()));
+            }
+        }
+        try {
+            List<ClientEntity> saved = delegate.saveAll(unique.stream().map(PendingSave::client).toList());
+            for (int i = 0; i < unique.size(); i++) {
+                unique.get(i).result().complete(saved.get(i));
+            }
+            log.debug("[flush] Group committed {} clients", unique.size());
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            log.warn("[flush] Batch of {} clients failed, saving one by one: {}", unique.size(), e.getMessage());
+            for (PendingSave pending : unique) {
+                try {
+                    pending.result().complete(delegate.save(pending.client()));
+                } catch (RuntimeException rowError) {
+                    pending.result().completeExceptionally(rowError);
+                }
+            }
+        }
+    }
+
+    @Override
+    public long deleteReturningCount(UUID clientId, Long expectedVersion) {
+        return delegate.deleteReturningCount(clientId, expectedVersion);
+    }
+
+    @Override
+    public ClientPage<ClientView> findPage(ClientCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public ClientPage<ClientView> search(ClientQuery query, ClientCursor after, int limit) {
+        return delegate.search(query, after, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<ClientView> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public ClientChangePage<ClientChangeView> findChanges(ClientChangeCursor after, int limit) {
+        return delegate.findChanges(after, limit);
+    }
+
+    @Override
+    public Optional<ClientView> findById(UUID clientId) {
+        return delegate.findById(clientId);
+    }
+
+    @Override
+    public Map<UUID, ClientView> findAllByIds(Collection<UUID> clientIds) {
+        return delegate.findAllByIds(clientIds);
+    }
+
+    @Override
+    public Optional<ClientEntity> updateReturning(ClientEntity client) {
+        return delegate.updateReturning(client);
+    }
+
+    @Override
+    public List<ClientEntity> saveAll(List<ClientEntity> clients) {
+        return delegate.saveAll(clients);
+    }
+
+    @Override
+    public boolean existsById(UUID clientId) {
+        return delegate.existsById(clientId);
+    }
+
+    @Override
+    public boolean existsByCpf(String cpf) {
+        return delegate.existsByCpf(cpf);
+    }
+
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        return delegate.findExistingCpfs(cpfs);
+    }
+
+    private record PendingSave(ClientEntity client, CompletableFuture<ClientEntity> result) {
+    }
+}
@@ -0,0 +1,475 @@
+package com.nithack.clientService.infra.database.service;
+
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.exception.ClientAlreadyExistsException;
+import com.nithack.clientService.application.port.ReactiveClientDataServicePort;
+import com.nithack.clientService.domain.entity.AddressEntity;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientChangeType;
+import com.nithack.clientService.domain.entity.ClientCursor;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
+import com.nithack.clientService.infra.database.model.ClientModel;
+import com.nithack.clientService.infra.database.repository.ClientSpecifications;
+import io.r2dbc.postgresql.api.PostgresqlException;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter R2DBC para persistência de clientes. Usa SQL explícito sobre o mesmo schema
+ * do adapter JPA, de forma que cada operação seja um único comando no banco.
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveClientDataServiceAdapter implements ReactiveClientDataServicePort {
+
+    static final int FETCH_SIZE = 500;
+
+    private static final String SELECT_CLIENT = "select c.id, c.cpf, c.name, c.date_of_birth, c.phone,"
+            + " c.created_at, c.updated_at, a.id as address_id, a.street, a.city, a.state, a.postal_code"
+            + " from clients c join addresses a on a.id = c.address_id";
+
+    private static final String INSERT_CLIENT = "with address as ("
+            + " insert into addresses (id, street, city, state, postal_code) values ($1, $2, $3, $4, $5) returning id),"
+            + " client as ("
+            + " insert into clients (id, cpf, name, date_of_birth, phone, address_id, created_at, updated_at)"
+            + " select $6, $7, $8, $9, $10, address.id, $11, $12 from address returning id, version)"
+            + " insert into client_changes (client_id, change_type, version) select id, 'CREATED', version from client";
+
+    private static final String UPDATE_CLIENT = "with client as ("
+            + " update clients set cpf = $1, name = $2, date_of_birth = $3, phone = $4, updated_at = $5,"
+            + " version = version + 1 where id = $6"
+            + " returning id, cpf, name, date_of_birth, phone, address_id, created_at, updated_at, version),"
+            + " address as ("
+            + " update addresses set street = $7, city = $8, state = $9, postal_code = $10"
+            + " where id = (select address_id from client)"
+            + " returning id, street, city, state, postal_code),"
+            + " change as (insert into client_changes (client_id, change_type, version)"
+            + " select id, 'UPDATED', version from client)"
+            + " select c.id, c.cpf, c.name, c.date_of_birth, c.phone, c.created_at, c.updated_at,"
+            + " a.id as address_id, a.street, a.city, a.state, a.postal_code"
+            + " from client c join address a on a.id = c.address_id";
+
+    private static final String DELETE_CLIENT = "with client as (delete from clients where id = $1"
+            + " returning id, address_id, version),"
+            + " change as (insert into client_changes (client_id, change_type, version)"
+            + " select id, 'DELETED', version + 1 from client)"
+            + " delete from addresses where id in (select address_id from client)";
+
+    private static final String SELECT_CHANGES = "select cast(cast(ch.tx_id as text) as bigint) as tx_id, ch.seq,"
+            + " ch.change_type, ch.client_id, ch.version, ch.changed_at, c.cpf, c.name, c.date_of_birth, c.phone,"
+            + " a.street, a.city, a.state, a.postal_code, c.version as client_version, c.created_at"
+            + " from client_changes ch"
+            + " left join clients c on c.id = ch.client_id and ch.change_type <> 'DELETED'"
+            + " left join addresses a on a.id = c.address_id"
+            + " where (ch.tx_id, ch.seq) > (cast(cast(:txId as text) as xid8), :seq)"
+            + " and ch.tx_id < pg_snapshot_xmin(pg_current_snapshot())"
+            + " order by ch.tx_id, ch.seq"
+            + " limit :limit";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Exclui o cliente e seu endereço em um único comando.
+     *
+     * @param clientId UUID do cliente.
+     * @return quantidade de clientes excluídos.
+     */
+    @Override
+    public Mono<Long> deleteReturningCount(UUID clientId) {
+        log.debug("[deleteReturningCount] Deleting client with id: {}", clientId);
+        return databaseClient.sql(DELETE_CLIENT)
+                .bind(0, clientId)
+                .fetch()
+                .rowsUpdated()
+                .doOnSuccess(deleted -> log.debug("[deleteReturningCount] Deleted {} clients with id: {}", deleted, clientId))
+                .doOnError(e -> log.error("[deleteReturningCount] Error deleting client with id: {}", clientId, e));
+    }
+
+    /**
+     * Busca uma página de clientes usando keyset em (created_at, id).
+     * Consulta um registro a mais que o limite para saber se existe próxima página.
+     *
+     * @param after posição após a qual a página começa, ou null para a primeira página.
+     * @param limit quantidade máxima de clientes na página.
+     * @return ClientPage com os clientes e o cursor da próxima página, se houver.
+     */
+    @Override
+    public Mono<ClientPage<ClientEntity>> findPage(ClientCursor after, int limit) {
+        log.debug("[findPage] Retrieving page of {} clients from database", limit);
+        DatabaseClient.GenericExecuteSpec spec = after == null
+                ? databaseClient.sql(SELECT_CLIENT + " order by c.created_at, c.id limit :limit")
+                : databaseClient.sql(SELECT_CLIENT + " where (c.created_at, c.id) > (:createdAt, :id)"
+                        + " order by c.created_at, c.id limit :limit")
+                        .bind("createdAt", after.getCreatedAt())
+                        .bind("id", after.getId());
+        return spec.bind("limit", limit + 1)
+                .map(ReactiveClientDataServiceAdapter::toEntity)
+                .all()
+                .collectList()
+                .map(clients -> toPage(clients, limit))
+                .doOnSuccess(page -> log.debug("[findPage] Successfully mapped {} clients, has next page: {}",
+                        page.getClients().size(), page.getNext() != null))
+                .doOnError(e -> log.error("[findPage] Error retrieving page of clients from database", e));
+    }
+
+    /**
+     * Busca uma página dos clientes que atendem aos filtros. Só entram no SQL as condições
+     * dos filtros informados, para que o planner escolha o índice de cada uma.
+     *
+     * @param query filtros da busca; filtros nulos são ignorados.
+     * @param after posição após a qual a página começa, ou null para a primeira página.
+     * @param limit quantidade máxima de clientes na página.
+     * @return ClientPage com os clientes e o cursor da próxima página, se houver.
+     */
+    @Override
+    public Mono<ClientPage<ClientEntity>> search(ClientQuery query, ClientCursor after, int limit) {
+        log.debug("[search] Searching page of {} clients in database", limit);
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new LinkedHashMap<>();
+        if (ClientSpecifications.hasText(query.getNamePrefix())) {
+            conditions.add("c.name ilike :name");
+            params.put("name", ClientSpecifications.toPrefixPattern(query.getNamePrefix()));
+        }
+        if (ClientSpecifications.hasText(query.getState())) {
+            conditions.add("a.state = :state");
+            params.put("state", query.getState());
+        }
+        if (ClientSpecifications.hasText(query.getCity())) {
+            conditions.add("a.city = :city");
+            params.put("city", query.getCity());
+        }
+        if (ClientSpecifications.hasText(query.getPostalCode())) {
+            conditions.add("a.postal_code = :postalCode");
+            params.put("postalCode", query.getPostalCode());
+        }
+        if (query.getBornFrom() != null) {
+            conditions.add("c.date_of_birth >= :bornFrom");
+            params.put("bornFrom", query.getBornFrom());
+        }
+        if (query.getBornTo() != null) {
+            conditions.add("c.date_of_birth <= :bornTo");
+            params.put("bornTo", query.getBornTo());
+        }
+        if (after != null) {
+            conditions.add("(c.created_at, c.id) > (:createdAt, :id)");
+            params.put("createdAt", after.getCreatedAt());
+            params.put("id", after.getId());
+        }
+        String where = conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(SELECT_CLIENT + where + " order by c.created_at, c.id limit :limit");
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec.bind("limit", limit + 1)
+                .map(ReactiveClientDataServiceAdapter::toEntity)
+                .all()
+                .collectList()
+                .map(clients -> toPage(clients, limit))
+                .doOnSuccess(page -> log.debug("[search] Successfully mapped {} clients, has next page: {}",
+                        page.getClients().size(), page.getNext() != null))
+                .doOnError(e -> log.error("[search] Error searching clients in database", e));
+    }
+
+    /**
+     * Monta a página a partir de até limit + 1 registros; o registro excedente indica que há próxima página.
+     */
+    private static ClientPage<ClientEntity> toPage(List<ClientEntity> clients, int limit) {
+        if (clients.size() <= limit) {
+            return new ClientPage<>(clients, null);
+        }
+        List<ClientEntity> clientEntities = clients.subList(0, limit);
+        ClientEntity last = clientEntities.get(limit - 1);
+        return new ClientPage<>(clientEntities, new ClientCursor(last.getCreatedAt(), last.getId()));
+    }
+
+    /**
+     * Percorre todos os clientes em lotes de {@value #FETCH_SIZE} linhas; o próximo lote
+     * só é pedido ao banco quando o assinante consome o anterior.
+     *
+     * @return fluxo com todos os clientes.
+     */
+    @Override
+    public Flux<ClientEntity> streamAll() {
+        log.debug("[streamAll] Streaming all clients from database");
+        return databaseClient.sql(SELECT_CLIENT)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveClientDataServiceAdapter::toEntity)
+                .all()
+                .doOnError(e -> log.error("[streamAll] Error streaming clients from database", e))
+                .doOnComplete(() -> log.debug("[streamAll] Successfully streamed all clients"));
+    }
+
+    /**
+     * Busca as alterações após a posição informada, apenas de transações abaixo do xmin do snapshot atual,
+     * com o estado atual de cada cliente no mesmo join. Consulta uma alteração a mais que o limite para
+     * saber se há mais alterações.
+     *
+     * @param after posição após a qual a página começa.
+     * @param limit quantidade máxima de alterações na página.
+     * @return ClientChangePage com as alterações e a posição de onde continuar.
+     */
+    @Override
+    public Mono<ClientChangePage<ClientChangeView>> findChanges(ClientChangeCursor after, int limit) {
+        log.debug("[findChanges] Retrieving page of {} client changes from database", limit);
+        return databaseClient.sql(SELECT_CHANGES)
+                .bind("txId", after.getTxId())
+                .bind("seq", after.getSeq())
+                .bind("limit", limit + 1)
+                .map(ReactiveClientDataServiceAdapter::toChangeView)
+                .all()
+                .collectList()
+                .map(changes -> {
+                    boolean hasMore = changes.size() > limit;
+                    List<ClientChangeView> pageChanges = hasMore ? changes.subList(0, limit) : changes;
+                    ClientChangeCursor next = pageChanges.isEmpty() ? after
+                            : new ClientChangeCursor(pageChanges.getLast().getTxId(), pageChanges.getLast().getSeq());
+                    return new ClientChangePage<>(pageChanges, next, hasMore);
+                })
+                .doOnSuccess(page -> log.debug("[findChanges] Successfully retrieved {} client changes, has more: {}",
+                        page.getChanges().size(), page.isHasMore()))
+                .doOnError(e -> log.error("[findChanges] Error retrieving page of client changes from database", e));
+    }
+
+    /**
+     * Busca um cliente e seu endereço pelo ID.
+     *
+     * @param clientId UUID do cliente.
+     * @return Mono com o cliente, ou vazio se não encontrado.
+     */
+    @Override
+    public Mono<ClientEntity> findById(UUID clientId) {
+        log.debug("[findById] Retrieving client with id: {}", clientId);
+        return databaseClient.sql(SELECT_CLIENT + " where c.id = :id")
+                .bind("id", clientId)
+                .map(ReactiveClientDataServiceAdapter::toEntity)
+                .one()
+                .doOnError(e -> log.error("[findById] Error retrieving client with id: {}", clientId, e));
+    }
+
+    /**
+     * Busca vários clientes com um único parâmetro array ({@code = any(:ids)}): o SQL é o mesmo para qualquer
+     * quantidade de IDs e a busca usa a chave primária.
+     *
+     * @param clientIds IDs dos clientes; repetições são ignoradas.
+     * @return clientes encontrados, indexados pelo ID.
+     */
+    @Override
+    public Mono<Map<UUID, ClientEntity>> findAllByIds(Collection<UUID> clientIds) {
+        UUID[] ids = new LinkedHashSet<>(clientIds).toArray(UUID[]::new);
+        log.debug("[findAllByIds] Retrieving {} clients from database", ids.length);
+        if (ids.length == 0) {
+            return Mono.just(Map.of());
+        }
+        return databaseClient.sql(SELECT_CLIENT + " where c.id = any(:ids)")
+                .bind("ids", ids)
+                .map(ReactiveClientDataServiceAdapter::toEntity)
+                .all()
+                .collectMap(ClientEntity::getId)
+                .doOnSuccess(clients -> log.debug("[findAllByIds] Found {} of {} clients", clients.size(), ids.length))
+                .doOnError(e -> log.error("[findAllByIds] Error retrieving {} clients from database", ids.length, e));
+    }
+
+    /**
+     * Insere o endereço e o cliente em um único comando.
+     *
+     * @param client cliente com IDs (cliente e endereço) e datas já preenchidos.
+     * @return o cliente inserido.
+     * @throws ClientAlreadyExistsException (como erro do Mono) se a constraint única de CPF ou telefone for violada.
+     */
+    @Override
+    public Mono<ClientEntity> insert(ClientEntity client) {
+        log.debug("[insert] Inserting client with id: {}", client.getId());
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_CLIENT);
+        Object[] values = insertValues(client);
+        for (int i = 0; i < values.length; i++) {
+            spec = spec.bind(i, values[i]);
+        }
+        return spec.fetch()
+                .rowsUpdated()
+                .thenReturn(client)
+                .onErrorMap(DataIntegrityViolationException.class, e -> mapConflict("insert", e, client))
+                .doOnSuccess(saved -> log.debug("[insert] Successfully inserted client with id: {}", client.getId()))
+                .doOnError(e -> log.error("[insert] Error inserting client with id: {}", client.getId()));
+    }
+
+    /**
+     * Insere um lote de clientes em uma transação, enviando todas as linhas
+     * no mesmo statement com {@link Statement#add()}.
+     *
+     * @param clients clientes com ID e datas já preenchidos.
+     * @return clientes inseridos, na mesma ordem recebida.
+     */
+    @Override
+    @Transactional
+    public Mono<List<ClientEntity>> insertAll(List<ClientEntity> clients) {
+        log.debug("[insertAll] Inserting batch of {} clients", clients.size());
+        return databaseClient.inConnectionMany(connection -> {
+                    Statement statement = connection.createStatement(INSERT_CLIENT);
+                    for (int i = 0; i < clients.size(); i++) {
+                        if (i > 0) {
+                            statement.add();
+                        }
+                        ClientEntity client = clients.get(i);
+                        Object[] values = insertValues(client);
+                        for (int j = 0; j < values.length; j++) {
+                            statement.bind(j, values[j]);
+                        }
+                    }
+                    return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated);
+                })
+                .then(Mono.just(clients))
+                .doOnSuccess(saved -> log.debug("[insertAll] Successfully inserted batch of {} clients", saved.size()))
+                .doOnError(e -> log.error("[insertAll] Error inserting batch of {} clients", clients.size(), e));
+    }
+
+    /**
+     * Atualiza cliente e endereço em um único comando, retornando a linha atualizada.
+     *
+     * @param client dados atualizados do cliente.
+     * @return o cliente atualizado, ou vazio se não existir.
+     * @throws ClientAlreadyExistsException (como erro do Mono) se a constraint única de CPF ou telefone for violada.
+     */
+    @Override
+    public Mono<ClientEntity> updateReturning(ClientEntity client) {
+        log.debug("[updateReturning] Updating client with id: {}", client.getId());
+        AddressEntity address = client.getAddress();
+        return databaseClient.sql(UPDATE_CLIENT)
+                .bind(0, client.getCpf())
+                .bind(1, client.getName())
+                .bind(2, client.getDateOfBirth())
+                .bind(3, client.getPhone())
+                .bind(4, client.getUpdatedAt())
+                .bind(5, client.getId())
+                .bind(6, address.getStreet())
+                .bind(7, address.getCity())
+                .bind(8, address.getState())
+                .bind(9, address.getPostalCode())
+                .map(ReactiveClientDataServiceAdapter::toEntity)
+                .one()
+                .onErrorMap(DataIntegrityViolationException.class, e -> mapConflict("updateReturning", e, client))
+                .doOnError(e -> log.error("[updateReturning] Error updating client with id: {}", client.getId()));
+    }
+
+    /**
+     * Busca, em uma única consulta, quais dos CPFs informados já estão cadastrados.
+     *
+     * @param cpfs CPFs a serem verificados.
+     * @return conjunto com os CPFs já existentes.
+     */
+    @Override
+    public Mono<Set<String>> findExistingCpfs(Collection<String> cpfs) {
+        log.debug("[findExistingCpfs] Checking {} CPFs", cpfs.size());
+        if (cpfs.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        return databaseClient.sql("select cpf from clients where cpf = any(:cpfs)")
+                .bind("cpfs", cpfs.toArray(String[]::new))
+                .map(row -> row.get("cpf", String.class))
+                .all()
+                .collect(Collectors.toSet())
+                .doOnSuccess(existing -> log.debug("[findExistingCpfs] Found {} existing CPFs", existing.size()))
+                .doOnError(e -> log.error("[findExistingCpfs] Error checking existing CPFs"));
+    }
+
+    private static Object[] insertValues(ClientEntity client) {
+        AddressEntity address = client.getAddress();
+        return new Object[]{
+                address.getId(), address.getStreet(), address.getCity(), address.getState(), address.getPostalCode(),
+                client.getId(), client.getCpf(), client.getName(), client.getDateOfBirth(), client.getPhone(),
+                client.getCreatedAt(), client.getUpdatedAt()
+        };
+    }
+
+    /**
+     * Converte a violação das constraints únicas de CPF ou telefone, identificada pelo nome da constraint informado
+     * pelo PostgreSQL, em ClientAlreadyExistsException; outras violações seguem inalteradas.
+     */
+    private static Throwable mapConflict(String method, DataIntegrityViolationException e, ClientEntity client) {
+        if (!(e.getCause() instanceof PostgresqlException violation)) {
+            return e;
+        }
+        String constraintName = violation.getErrorDetails().getConstraintName().orElse(null);
+        if (ClientModel.CPF_CONSTRAINT.equalsIgnoreCase(constraintName)) {
+            log.warn("[{}] Client with cpf already exists", method);
+            return new ClientAlreadyExistsException(client.getCpf());
+        }
+        if (ClientModel.PHONE_CONSTRAINT.equalsIgnoreCase(constraintName)) {
+            log.warn("[{}] Client with phone already exists", method);
+            return new ClientAlreadyExistsException("phone", client.getPhone());
+        }
+        return e;
+    }
+
+    private static ClientChangeView toChangeView(Readable row) {
+        UUID clientId = row.get("client_id", UUID.class);
+        String name = row.get("name", String.class);
+        ClientView client = name == null ? null : new ClientView(
+                clientId,
+                name,
+                row.get("cpf", String.class),
+                row.get("phone", String.class),
+                row.get("date_of_birth", LocalDate.class),
+                row.get("city", String.class),
+                row.get("state", String.class),
+                row.get("street", String.class),
+                row.get("postal_code", String.class),
+                row.get("client_version", Long.class),
+                row.get("created_at", LocalDate.class));
+        return ClientChangeView.builder()
+                .type(ClientChangeType.valueOf(row.get("change_type", String.class)))
+                .clientId(clientId)
+                .version(row.get("version", Long.class))
+                .changedAt(row.get("changed_at", LocalDateTime.class))
+                .client(client)
+                .txId(row.get("tx_id", Long.class))
+                .seq(row.get("seq", Long.class))
+                .build();
+    }
+
+    private static ClientEntity toEntity(Readable row) {
+        return ClientEntity.builder()
+                .id(row.get("id", UUID.class))
+                .cpf(row.get("cpf", String.class))
+                .name(row.get("name", String.class))
+                .dateOfBirth(row.get("date_of_birth", LocalDate.class))
+                .phone(row.get("phone", String.class))
+                .createdAt(row.get("created_at", LocalDate.class))
+                .updatedAt(row.get("updated_at", LocalDate.class))
+                .address(AddressEntity.builder()
+                        .id(row.get("address_id", UUID.class))
+                        .street(row.get("street", String.class))
+                        .city(row.get("city", String.class))
+                        .state(row.get("state", String.class))
+                        .postalCode(row.get("postal_code", String.class))
+                        .build())
+                .build();
+    }
+}
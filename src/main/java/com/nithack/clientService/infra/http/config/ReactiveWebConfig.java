@@ -0,0 +1,20 @@
+package com.nithack.clientService.infra.http.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Com o Tomcat também no classpath o Spring Boot o escolhe por padrão;
+ * no perfil reactive o servidor passa a ser o Netty, com um event loop por núcleo.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveWebConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -1,13 +1,30 @@
 package com.nithack.clientService.infra.http.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithack.clientService.application.dto.ClientBatchRequestDTO;
+import com.nithack.clientService.application.dto.ClientBatchResponseDTO;
+import com.nithack.clientService.application.dto.ClientChangePageDTO;
+import com.nithack.clientService.application.dto.ClientChangeView;
 import com.nithack.clientService.application.dto.ClientDTO;
+import com.nithack.clientService.application.dto.ClientLookupRequestDTO;
+import com.nithack.clientService.application.dto.ClientLookupResponseDTO;
+import com.nithack.clientService.application.dto.ClientPageDTO;
+import com.nithack.clientService.application.dto.ClientView;
 import com.nithack.clientService.application.mapper.ClientMapper;
+import com.nithack.clientService.application.port.ClientServicePort;
 import com.nithack.clientService.infra.http.doc.ClientAPIDoc;
-import com.nithack.clientService.application.services.ClientServiceAdapter;
+import com.nithack.clientService.infra.http.util.ClientETags;
+import com.nithack.clientService.domain.entity.ClientBatchItem;
+import com.nithack.clientService.domain.entity.ClientChangePage;
 import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,57 +32,136 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.context.annotation.Profile;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/clients")
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ClientController implements ClientAPIDoc {
 
-    private final ClientServiceAdapter clientService;
+    private final ClientServicePort clientService;
+    private final ObjectMapper objectMapper;
 
     @Override
     @PostMapping
     public ResponseEntity<ClientDTO> createClient(@Valid @RequestBody ClientDTO clientDTO) {
         ClientEntity clientEntity = ClientMapper.toEntity(clientDTO);
         ClientEntity createdClient = clientService.create(clientEntity);
-        return ResponseEntity.status(HttpStatus.CREATED).body(ClientMapper.toDTO(createdClient));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ClientETags.of(createdClient.getVersion()))
+                .body(ClientMapper.toDTO(createdClient));
+    }
+
+    @Override
+    @PostMapping("/batch")
+    public ResponseEntity<ClientBatchResponseDTO> createClients(@Valid @RequestBody ClientBatchRequestDTO batchRequest) {
+        List<ClientEntity> clientEntities = batchRequest.getClients().stream().map(ClientMapper::toEntity).toList();
+        List<ClientBatchItem> results = clientService.createAll(clientEntities);
+        return ResponseEntity.ok(ClientMapper.toBatchResponseDTO(results));
     }
 
     @Override
     @GetMapping("/{id}")
-    public ResponseEntity<ClientDTO> getClientById(@PathVariable UUID id) {
-        Optional<ClientEntity> client = clientService.findById(id.toString());
-        return client.map(value -> ResponseEntity.ok(ClientMapper.toDTO(value)))
+    public ResponseEntity<ClientView> getClientById(@PathVariable UUID id) {
+        Optional<ClientView> client = clientService.findById(id.toString());
+        return client.map(view -> ResponseEntity.ok().eTag(ClientETags.of(view.getVersion())).body(view))
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NO_CONTENT).build());
     }
 
+    @Override
+    @PostMapping("/lookup")
+    public ResponseEntity<ClientLookupResponseDTO> lookupClients(@Valid @RequestBody ClientLookupRequestDTO lookupRequest) {
+        Map<UUID, ClientView> clients = clientService.findAllByIds(lookupRequest.getIds());
+        return ResponseEntity.ok(ClientMapper.toLookupResponseDTO(lookupRequest.getIds(), clients));
+    }
+
     @Override
     @GetMapping
-    public ResponseEntity<List<ClientDTO>> getAllClients() {
-        List<ClientEntity> clients = clientService.findAll();
-        List<ClientDTO> clientDTOs = clients.stream().map(ClientMapper::toDTO).toList();
-        return ResponseEntity.ok(clientDTOs);
+    public ResponseEntity<ClientPageDTO> getAllClients(@RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size) {
+        ClientPage<ClientView> page = clientService.findPage(cursor, size);
+        ClientPageDTO pageDTO = ClientMapper.toViewPageDTO(page);
+        return ResponseEntity.ok().eTag(ClientETags.ofPage(pageDTO)).body(pageDTO);
+    }
+
+    @Override
+    @GetMapping("/search")
+    public ResponseEntity<ClientPageDTO> searchClients(@RequestParam(required = false) String name,
+                                                       @RequestParam(required = false) String city,
+                                                       @RequestParam(required = false) String state,
+                                                       @RequestParam(required = false) String postalCode,
+                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornFrom,
+                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornTo,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size) {
+        ClientQuery query = ClientQuery.builder()
+                .namePrefix(name)
+                .city(city)
+                .state(state)
+                .postalCode(postalCode)
+                .bornFrom(bornFrom)
+                .bornTo(bornTo)
+                .build();
+        ClientPage<ClientView> page = clientService.search(query, cursor, size);
+        ClientPageDTO pageDTO = ClientMapper.toViewPageDTO(page);
+        return ResponseEntity.ok().eTag(ClientETags.ofPage(pageDTO)).body(pageDTO);
+    }
+
+    @Override
+    @GetMapping("/changes")
+    public ResponseEntity<ClientChangePageDTO> getClientChanges(@RequestParam(required = false) String since,
+                                                                @RequestParam(required = false) Integer size) {
+        ClientChangePage<ClientChangeView> page = clientService.findChanges(since, size);
+        return ResponseEntity.ok(ClientMapper.toChangePageDTO(page));
+    }
+
+    @Override
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllClients() {
+        StreamingResponseBody body = outputStream -> clientService.streamAll(client -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(client));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @Override
     @PutMapping("/{id}")
-    public ResponseEntity<ClientDTO> updateClient(@PathVariable UUID id, @Valid @RequestBody ClientDTO clientDTO) {
+    public ResponseEntity<ClientDTO> updateClient(@PathVariable UUID id,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                  @Valid @RequestBody ClientDTO clientDTO) {
         clientDTO.setId(id);
         ClientEntity clientEntity = ClientMapper.toEntity(clientDTO);
+        clientEntity.setVersion(ClientETags.parseIfMatch(ifMatch));
         ClientEntity updatedClient = clientService.update(clientEntity);
-        return ResponseEntity.ok(ClientMapper.toDTO(updatedClient));
+        return ResponseEntity.ok()
+                .eTag(ClientETags.of(updatedClient.getVersion()))
+                .body(ClientMapper.toDTO(updatedClient));
     }
 
     @Override
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteClient(@PathVariable UUID id) {
-        clientService.delete(id);
+    public ResponseEntity<Void> deleteClient(@PathVariable UUID id,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        clientService.delete(id, ClientETags.parseIfMatch(ifMatch));
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 }
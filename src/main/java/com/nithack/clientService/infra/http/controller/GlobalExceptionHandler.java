@@ -3,11 +3,12 @@ package com.nithack.clientService.infra.http.controller;
 import com.nithack.clientService.application.dto.ErrorResponseDTO;
 import com.nithack.clientService.application.exception.ClientAlreadyExistsException;
 import com.nithack.clientService.application.exception.ClientNotFoundException;
+import com.nithack.clientService.application.exception.ClientVersionMismatchException;
+import com.nithack.clientService.application.exception.InvalidCursorException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.context.request.WebRequest;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -35,15 +36,38 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Tratamento de exceção para ClientVersionMismatchException.
+     *
+     * @param ex A exceção ClientVersionMismatchException.
+     * @return Resposta com mensagem de erro e status HTTP PRECONDITION FAILED (412).
+     */
+    @ExceptionHandler(ClientVersionMismatchException.class)
+    public ResponseEntity<ErrorResponseDTO> handleClientVersionMismatchException(ClientVersionMismatchException ex) {
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(HttpStatus.PRECONDITION_FAILED, ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Tratamento de exceção para InvalidCursorException.
+     *
+     * @param ex A exceção InvalidCursorException.
+     * @return Resposta com mensagem de erro e status HTTP BAD REQUEST (400).
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponseDTO> handleInvalidCursorException(InvalidCursorException ex) {
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(HttpStatus.BAD_REQUEST, ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Tratamento para exceções genéricas não mapeadas.
      *
      * @param ex A exceção não mapeada.
-     * @param request Detalhes da solicitação que gerou o erro.
      * @return Resposta com mensagem genérica de erro e status HTTP INTERNAL SERVER ERROR (500).
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponseDTO> handleGeneralException(Exception ex, WebRequest request) {
+    public ResponseEntity<ErrorResponseDTO> handleGeneralException(Exception ex) {
         ErrorResponseDTO errorResponse = new ErrorResponseDTO(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred. Please try again later.");
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
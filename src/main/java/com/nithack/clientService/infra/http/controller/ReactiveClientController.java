@@ -0,0 +1,139 @@
+package com.nithack.clientService.infra.http.controller;
+
+import com.nithack.clientService.application.dto.ClientBatchRequestDTO;
+import com.nithack.clientService.application.dto.ClientBatchResponseDTO;
+import com.nithack.clientService.application.dto.ClientChangePageDTO;
+import com.nithack.clientService.application.dto.ClientDTO;
+import com.nithack.clientService.application.dto.ClientLookupRequestDTO;
+import com.nithack.clientService.application.dto.ClientLookupResponseDTO;
+import com.nithack.clientService.application.dto.ClientPageDTO;
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.mapper.ClientMapper;
+import com.nithack.clientService.application.port.ReactiveClientServicePort;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientQuery;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Versão WebFlux de {@link ClientController}, com o mesmo contrato em /clients.
+ */
+@RestController
+@RequestMapping("/clients")
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveClientController {
+
+    private final ReactiveClientServicePort clientService;
+
+    @PostMapping
+    public Mono<ResponseEntity<ClientDTO>> createClient(@Valid @RequestBody ClientDTO clientDTO) {
+        ClientEntity clientEntity = ClientMapper.toEntity(clientDTO);
+        return clientService.create(clientEntity)
+                .map(createdClient -> ResponseEntity.status(HttpStatus.CREATED).body(ClientMapper.toDTO(createdClient)));
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<ClientBatchResponseDTO>> createClients(@Valid @RequestBody ClientBatchRequestDTO batchRequest) {
+        List<ClientEntity> clientEntities = batchRequest.getClients().stream().map(ClientMapper::toEntity).toList();
+        return clientService.createAll(clientEntities)
+                .map(results -> ResponseEntity.ok(ClientMapper.toBatchResponseDTO(results)));
+    }
+
+    @PostMapping("/lookup")
+    public Mono<ResponseEntity<ClientLookupResponseDTO>> lookupClients(@Valid @RequestBody ClientLookupRequestDTO lookupRequest) {
+        return clientService.findAllByIds(lookupRequest.getIds())
+                .map(clients -> {
+                    Map<UUID, ClientView> views = new LinkedHashMap<>(clients.size() * 2);
+                    clients.forEach((id, client) -> views.put(id, ClientMapper.toView(client)));
+                    return ResponseEntity.ok(ClientMapper.toLookupResponseDTO(lookupRequest.getIds(), views));
+                });
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ClientDTO>> getClientById(@PathVariable UUID id) {
+        return clientService.findById(id.toString())
+                .map(client -> ResponseEntity.ok(ClientMapper.toDTO(client)))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NO_CONTENT).build());
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<ClientPageDTO>> getAllClients(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer size) {
+        return clientService.findPage(cursor, size)
+                .map(page -> ResponseEntity.ok(ClientMapper.toPageDTO(page)));
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<ClientPageDTO>> searchClients(@RequestParam(required = false) String name,
+                                                             @RequestParam(required = false) String city,
+                                                             @RequestParam(required = false) String state,
+                                                             @RequestParam(required = false) String postalCode,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornFrom,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornTo,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer size) {
+        ClientQuery query = ClientQuery.builder()
+                .namePrefix(name)
+                .city(city)
+                .state(state)
+                .postalCode(postalCode)
+                .bornFrom(bornFrom)
+                .bornTo(bornTo)
+                .build();
+        return clientService.search(query, cursor, size)
+                .map(page -> ResponseEntity.ok(ClientMapper.toPageDTO(page)));
+    }
+
+    @GetMapping("/changes")
+    public Mono<ResponseEntity<ClientChangePageDTO>> getClientChanges(@RequestParam(required = false) String since,
+                                                                      @RequestParam(required = false) Integer size) {
+        return clientService.findChanges(since, size)
+                .map(page -> ResponseEntity.ok(ClientMapper.toChangePageDTO(page)));
+    }
+
+    /**
+     * Cada cliente é escrito como uma linha NDJSON assim que lido; a demanda da conexão
+     * HTTP controla o ritmo de leitura do banco.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ClientDTO> streamAllClients() {
+        return clientService.streamAll().map(ClientMapper::toDTO);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ClientDTO>> updateClient(@PathVariable UUID id, @Valid @RequestBody ClientDTO clientDTO) {
+        clientDTO.setId(id);
+        ClientEntity clientEntity = ClientMapper.toEntity(clientDTO);
+        return clientService.update(clientEntity)
+                .map(updatedClient -> ResponseEntity.ok(ClientMapper.toDTO(updatedClient)));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteClient(@PathVariable UUID id) {
+        return clientService.delete(id)
+                .then(Mono.just(ResponseEntity.status(HttpStatus.NO_CONTENT).<Void>build()));
+    }
+}
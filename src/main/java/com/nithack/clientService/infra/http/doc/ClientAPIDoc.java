@@ -1,6 +1,13 @@
 package com.nithack.clientService.infra.http.doc;
 
+import com.nithack.clientService.application.dto.ClientBatchRequestDTO;
+import com.nithack.clientService.application.dto.ClientBatchResponseDTO;
+import com.nithack.clientService.application.dto.ClientChangePageDTO;
 import com.nithack.clientService.application.dto.ClientDTO;
+import com.nithack.clientService.application.dto.ClientLookupRequestDTO;
+import com.nithack.clientService.application.dto.ClientLookupResponseDTO;
+import com.nithack.clientService.application.dto.ClientPageDTO;
+import com.nithack.clientService.application.dto.ClientView;
 import com.nithack.clientService.application.dto.ErrorResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,10 +17,15 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.LocalDate;
 import java.util.UUID;
 
 public interface ClientAPIDoc {
@@ -28,43 +40,134 @@ public interface ClientAPIDoc {
     ResponseEntity<ClientDTO> createClient(@Parameter(description = "Client details", required = true)
                                            @Valid @RequestBody ClientDTO clientDTO);
 
-    @Operation(summary = "Get client by ID", description = "Fetches a client by the provided ID.")
+    @Operation(summary = "Create clients in batch", description = "Creates up to "
+            + ClientBatchRequestDTO.MAX_BATCH_SIZE + " clients in a single request. "
+            + "Each item is reported individually, so duplicated CPFs do not fail the whole batch.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed",
+                    content = @Content(schema = @Schema(implementation = ClientBatchResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid client data",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+    })
+    ResponseEntity<ClientBatchResponseDTO> createClients(@Parameter(description = "Clients to create", required = true)
+                                                         @Valid @RequestBody ClientBatchRequestDTO batchRequest);
+
+    @Operation(summary = "Get client by ID", description = "Fetches a client by the provided ID. "
+            + "The response carries the client version as ETag; send it back in If-None-Match to skip unchanged bodies.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Client found",
                     content = @Content(schema = @Schema(implementation = ClientDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Client unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Client not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
-    ResponseEntity<ClientDTO> getClientById(@Parameter(description = "ID of the client", required = true)
-                                            @PathVariable UUID id);
+    ResponseEntity<ClientView> getClientById(@Parameter(description = "ID of the client", required = true)
+                                             @PathVariable UUID id);
+
+    @Operation(summary = "Get clients by IDs", description = "Fetches up to "
+            + ClientLookupRequestDTO.MAX_LOOKUP_SIZE + " clients in a single request and a single database query. "
+            + "Repeated ids are ignored; ids that do not exist are listed in missing.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Clients found, keyed by id",
+                    content = @Content(schema = @Schema(implementation = ClientLookupResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or too many ids",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+    })
+    ResponseEntity<ClientLookupResponseDTO> lookupClients(@Parameter(description = "IDs of the clients", required = true)
+                                                          @Valid @RequestBody ClientLookupRequestDTO lookupRequest);
 
-    @Operation(summary = "Get all clients", description = "Retrieves a list of all clients.")
+    @Operation(summary = "Get clients page", description = "Retrieves a page of clients ordered by creation date. "
+            + "Use the returned next cursor to fetch the following page. The weak ETag changes whenever a client of the page does.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "List of clients retrieved",
-                    content = @Content(schema = @Schema(implementation = ClientDTO.class)))
+            @ApiResponse(responseCode = "200", description = "Page of clients retrieved",
+                    content = @Content(schema = @Schema(implementation = ClientPageDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid pagination cursor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
-    ResponseEntity<List<ClientDTO>> getAllClients();
+    ResponseEntity<ClientPageDTO> getAllClients(@Parameter(description = "Cursor returned by the previous page")
+                                                @RequestParam(required = false) String cursor,
+                                                @Parameter(description = "Page size (max 500)")
+                                                @RequestParam(required = false) Integer size);
 
-    @Operation(summary = "Update client by ID", description = "Updates an existing client by the provided ID.")
+    @Operation(summary = "Search clients", description = "Retrieves a page of clients matching every provided filter, "
+            + "ordered by creation date. Use the returned next cursor with the same filters to fetch the following page. "
+            + "The weak ETag changes whenever a client of the page does.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of matching clients retrieved",
+                    content = @Content(schema = @Schema(implementation = ClientPageDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid pagination cursor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+    })
+    ResponseEntity<ClientPageDTO> searchClients(@Parameter(description = "Case-insensitive prefix of the client name")
+                                                @RequestParam(required = false) String name,
+                                                @Parameter(description = "Address city")
+                                                @RequestParam(required = false) String city,
+                                                @Parameter(description = "Address state")
+                                                @RequestParam(required = false) String state,
+                                                @Parameter(description = "Address postal code")
+                                                @RequestParam(required = false) String postalCode,
+                                                @Parameter(description = "Minimum date of birth (yyyy-MM-dd), inclusive")
+                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornFrom,
+                                                @Parameter(description = "Maximum date of birth (yyyy-MM-dd), inclusive")
+                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornTo,
+                                                @Parameter(description = "Cursor returned by the previous page")
+                                                @RequestParam(required = false) String cursor,
+                                                @Parameter(description = "Page size (max 500)")
+                                                @RequestParam(required = false) Integer size);
+
+    @Operation(summary = "Get client changes", description = "Retrieves inserts, updates and deletes (tombstones) "
+            + "recorded after the given token, in commit-safe order. Send the returned next token as since in the following call; "
+            + "hasMore tells whether further changes are already available.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of changes retrieved",
+                    content = @Content(schema = @Schema(implementation = ClientChangePageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid change token",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+    })
+    ResponseEntity<ClientChangePageDTO> getClientChanges(@Parameter(description = "Token returned by the previous call; omit to start from the first change")
+                                                         @RequestParam(required = false) String since,
+                                                         @Parameter(description = "Page size (max 500)")
+                                                         @RequestParam(required = false) Integer size);
+
+    @Operation(summary = "Stream all clients", description = "Streams every client as newline-delimited JSON.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Clients streamed",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = ClientDTO.class)))
+    })
+    ResponseEntity<StreamingResponseBody> streamAllClients();
+
+    @Operation(summary = "Update client by ID", description = "Updates an existing client by the provided ID. "
+            + "With If-Match, the update only applies if the client is still at that version.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Client updated successfully",
                     content = @Content(schema = @Schema(implementation = ClientDTO.class))),
             @ApiResponse(responseCode = "404", description = "Client not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
+            @ApiResponse(responseCode = "412", description = "Client changed since the ETag in If-Match",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = "Invalid client data",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     ResponseEntity<ClientDTO> updateClient(@Parameter(description = "ID of the client", required = true)
                                            @PathVariable UUID id,
+                                           @Parameter(description = "ETag of the client version being replaced")
+                                           @RequestHeader(required = false) String ifMatch,
                                            @Parameter(description = "Updated client details", required = true)
                                            @Valid @RequestBody ClientDTO clientDTO);
 
-    @Operation(summary = "Delete client by ID", description = "Deletes an existing client by the provided ID.")
+    @Operation(summary = "Delete client by ID", description = "Deletes an existing client by the provided ID. "
+            + "With If-Match, the delete only applies if the client is still at that version.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Client deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Client not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
+            @ApiResponse(responseCode = "412", description = "Client changed since the ETag in If-Match",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     ResponseEntity<Void> deleteClient(@Parameter(description = "ID of the client", required = true)
-                                      @PathVariable UUID id);
+                                      @PathVariable UUID id,
+                                      @Parameter(description = "ETag of the client version being deleted")
+                                      @RequestHeader(required = false) String ifMatch);
 }
\ No newline at end of file
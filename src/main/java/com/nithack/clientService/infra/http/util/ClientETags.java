@@ -0,0 +1,70 @@
+package com.nithack.clientService.infra.http.util;
+
+import com.nithack.clientService.application.dto.ClientPageDTO;
+import com.nithack.clientService.application.dto.ClientView;
+
+/**
+ * Monta e interpreta os ETags das respostas de cliente. O ETag de um cliente é a própria coluna
+ * {@code version} (forte); o de uma página é fraco e derivado dos ids, versões e do próximo cursor,
+ * de modo que muda sempre que algum cliente da página é alterado, incluído ou removido.
+ */
+public class ClientETags {
+
+    /**
+     * Versão usada quando o If-Match não é um ETag de cliente válido: nunca coincide com a do banco,
+     * então a requisição termina em 412.
+     */
+    static final long UNMATCHABLE_VERSION = -1L;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ClientETags() {
+        throw new RuntimeException("Util Class");
+    }
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String ofPage(ClientPageDTO page) {
+        long hash = FNV_OFFSET;
+        for (ClientView client : page.getContent()) {
+            hash = mix(hash, client.getId().getMostSignificantBits());
+            hash = mix(hash, client.getId().getLeastSignificantBits());
+            hash = mix(hash, client.getVersion() == null ? 0L : client.getVersion());
+        }
+        hash = mix(hash, page.getNext() == null ? 0L : page.getNext().hashCode());
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Converte o cabeçalho If-Match na versão esperada do cliente.
+     *
+     * @param ifMatch valor do cabeçalho, possivelmente ausente.
+     * @return null quando ausente ou {@code *} (qualquer versão); a versão do ETag forte informado;
+     * ou uma versão que nunca coincide quando o valor não é um ETag de cliente.
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return UNMATCHABLE_VERSION;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return UNMATCHABLE_VERSION;
+        }
+    }
+
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (value >>> (i * 8)) & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,87 @@
+package com.nithack.clientService.infra.logging;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Emite um único evento de access log por requisição, com método, URI, status e duração.
+ * Uma fração das requisições ({@code client.logging.debug-sample-rate}) é marcada no MDC
+ * para que os logs DEBUG da aplicação sejam emitidos por completo apenas nelas.
+ */
+@Slf4j(topic = "access")
+@Component
+@Profile("!reactive")
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    public static final String SAMPLED_MDC_KEY = "sampled";
+
+    private final double debugSampleRate;
+
+    public AccessLogFilter(@Value("${client.logging.debug-sample-rate:0.01}") double debugSampleRate) {
+        this.debugSampleRate = debugSampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean sampled = debugSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < debugSampleRate;
+        if (sampled) {
+            MDC.put(SAMPLED_MDC_KEY, "true");
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (sampled) {
+                MDC.remove(SAMPLED_MDC_KEY);
+            }
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AccessLogListener(request, response, start));
+            } else {
+                logAccess(request, response.getStatus(), start);
+            }
+        }
+    }
+
+    private static void logAccess(HttpServletRequest request, int status, long start) {
+        log.info("method={} uri={} status={} durationMs={}", request.getMethod(), request.getRequestURI(), status,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Respostas assíncronas (streaming NDJSON) só têm status e duração finais ao completar.
+     */
+    private record AccessLogListener(HttpServletRequest request, HttpServletResponse response, long start)
+            implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            logAccess(request, response.getStatus(), start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
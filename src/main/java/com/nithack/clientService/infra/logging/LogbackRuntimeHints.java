@@ -0,0 +1,20 @@
+package com.nithack.clientService.infra.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Classes instanciadas por reflexão a partir do {@code logback-spring.xml}; sem estas dicas a
+ * imagem nativa não encontra o turbo filter nem o appender assíncrono.
+ */
+public class LogbackRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection()
+                .registerType(SampledDebugTurboFilter.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS)
+                .registerType(AsyncAppender.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
@@ -0,0 +1,31 @@
+package com.nithack.clientService.infra.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versão WebFlux de {@link AccessLogFilter}: um único evento de access log por requisição,
+ * emitido quando a resposta termina.
+ */
+@Slf4j(topic = "access")
+@Component
+@Profile("reactive")
+public class ReactiveAccessLogFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange).doFinally(signal -> {
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            log.info("method={} uri={} status={} durationMs={}", exchange.getRequest().getMethod(),
+                    exchange.getRequest().getPath(), status == null ? 200 : status.value(),
+                    (System.nanoTime() - start) / 1_000_000);
+        });
+    }
+}
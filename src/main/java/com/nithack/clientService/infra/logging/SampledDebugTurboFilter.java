@@ -0,0 +1,30 @@
+package com.nithack.clientService.infra.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Libera os logs DEBUG da aplicação apenas nas requisições amostradas pelo {@link AccessLogFilter},
+ * mantendo o nível INFO para as demais. O filtro roda em toda chamada de log, antes da checagem de nível:
+ * cada DEBUG da aplicação custa uma leitura do MDC da thread, mesmo fora das requisições amostradas.
+ */
+@Getter
+@Setter
+public class SampledDebugTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "com.nithack.clientService";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level != Level.DEBUG || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return MDC.get(AccessLogFilter.SAMPLED_MDC_KEY) != null ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+}
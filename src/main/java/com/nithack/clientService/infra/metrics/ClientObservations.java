@@ -0,0 +1,79 @@
+package com.nithack.clientService.infra.metrics;
+
+import com.nithack.clientService.application.exception.ClientAlreadyExistsException;
+import com.nithack.clientService.application.exception.ClientNotFoundException;
+import com.nithack.clientService.application.exception.ClientVersionMismatchException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Executa chamadas dentro de uma {@link Observation}, que gera o timer (com histograma configurado em
+ * {@code management.metrics.distribution}) e, com tracing habilitado, o span da chamada.
+ * As tags {@code method} e {@code outcome} são de baixa cardinalidade.
+ */
+public class ClientObservations {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FOUND = "found";
+    public static final String OUTCOME_NOT_FOUND = "not_found";
+    public static final String OUTCOME_CONFLICT = "conflict";
+    public static final String OUTCOME_ERROR = "error";
+
+    private ClientObservations() {
+        throw new RuntimeException("Util Class");
+    }
+
+    public static <T> T observe(ObservationRegistry registry, String name, String method, Supplier<T> call) {
+        Observation observation = Observation.createNotStarted(name, registry)
+                .lowCardinalityKeyValue("method", method)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            T result = call.get();
+            observation.lowCardinalityKeyValue("outcome", outcomeOf(result));
+            return result;
+        } catch (RuntimeException e) {
+            observation.lowCardinalityKeyValue("outcome", outcomeOf(e));
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    public static void observe(ObservationRegistry registry, String name, String method, Runnable call) {
+        observe(registry, name, method, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * Buscas e verificações de existência são classificadas pelo resultado; contagens zeradas
+     * (exclusão de cliente inexistente) contam como não encontrado.
+     */
+    static String outcomeOf(Object result) {
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? OUTCOME_FOUND : OUTCOME_NOT_FOUND;
+        }
+        if (result instanceof Boolean exists) {
+            return exists ? OUTCOME_FOUND : OUTCOME_NOT_FOUND;
+        }
+        if (result instanceof Long count && count == 0) {
+            return OUTCOME_NOT_FOUND;
+        }
+        return OUTCOME_SUCCESS;
+    }
+
+    static String outcomeOf(RuntimeException e) {
+        if (e instanceof ClientNotFoundException) {
+            return OUTCOME_NOT_FOUND;
+        }
+        if (e instanceof ClientAlreadyExistsException || e instanceof ClientVersionMismatchException) {
+            return OUTCOME_CONFLICT;
+        }
+        return OUTCOME_ERROR;
+    }
+}
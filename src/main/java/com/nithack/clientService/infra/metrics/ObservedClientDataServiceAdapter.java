@@ -0,0 +1,105 @@
+package com.nithack.clientService.infra.metrics;
+
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.port.ClientDataServicePort;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientCursor;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Decorator de {@link ClientDataServicePort} que observa cada método do adapter de banco como
+ * {@value #METRIC_NAME}, com as tags {@code method} e {@code outcome}.
+ * Fica logo acima do adapter JPA, de modo que acertos de cache e do índice de CPF não entram na medida.
+ */
+@RequiredArgsConstructor
+public class ObservedClientDataServiceAdapter implements ClientDataServicePort {
+
+    public static final String METRIC_NAME = "client.data.statement";
+
+    private final ClientDataServicePort delegate;
+    private final ObservationRegistry observationRegistry;
+
+    private <T> T observe(String method, Supplier<T> call) {
+        return ClientObservations.observe(observationRegistry, METRIC_NAME, method, call);
+    }
+
+    @Override
+    public long deleteReturningCount(UUID clientId, Long expectedVersion) {
+        return observe("deleteReturningCount", () -> delegate.deleteReturningCount(clientId, expectedVersion));
+    }
+
+    @Override
+    public ClientPage<ClientView> findPage(ClientCursor after, int limit) {
+        return observe("findPage", () -> delegate.findPage(after, limit));
+    }
+
+    @Override
+    public ClientPage<ClientView> search(ClientQuery query, ClientCursor after, int limit) {
+        return observe("search", () -> delegate.search(query, after, limit));
+    }
+
+    @Override
+    public void streamAll(Consumer<ClientView> consumer) {
+        ClientObservations.observe(observationRegistry, METRIC_NAME, "streamAll", () -> delegate.streamAll(consumer));
+    }
+
+    @Override
+    public ClientChangePage<ClientChangeView> findChanges(ClientChangeCursor after, int limit) {
+        return observe("findChanges", () -> delegate.findChanges(after, limit));
+    }
+
+    @Override
+    public Optional<ClientView> findById(UUID clientId) {
+        return observe("findById", () -> delegate.findById(clientId));
+    }
+
+    @Override
+    public Map<UUID, ClientView> findAllByIds(Collection<UUID> clientIds) {
+        return observe("findAllByIds", () -> delegate.findAllByIds(clientIds));
+    }
+
+    @Override
+    public ClientEntity save(ClientEntity client) {
+        return observe("save", () -> delegate.save(client));
+    }
+
+    @Override
+    public Optional<ClientEntity> updateReturning(ClientEntity client) {
+        return observe("updateReturning", () -> delegate.updateReturning(client));
+    }
+
+    @Override
+    public List<ClientEntity> saveAll(List<ClientEntity> clients) {
+        return observe("saveAll", () -> delegate.saveAll(clients));
+    }
+
+    @Override
+    public boolean existsById(UUID clientId) {
+        return observe("existsById", () -> delegate.existsById(clientId));
+    }
+
+    @Override
+    public boolean existsByCpf(String cpf) {
+        return observe("existsByCpf", () -> delegate.existsByCpf(cpf));
+    }
+
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        return observe("findExistingCpfs", () -> delegate.findExistingCpfs(cpfs));
+    }
+}
@@ -0,0 +1,92 @@
+package com.nithack.clientService.infra.metrics;
+
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.port.ClientServicePort;
+import com.nithack.clientService.domain.entity.ClientBatchItem;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Decorator de {@link ClientServicePort} que observa cada método do service como {@value #METRIC_NAME},
+ * com as tags {@code method} e {@code outcome}. A diferença para {@code http.server.requests} é o tempo
+ * gasto no controller (validação, mapeamento e serialização).
+ */
+@RequiredArgsConstructor
+public class ObservedClientServiceAdapter implements ClientServicePort {
+
+    public static final String METRIC_NAME = "client.service";
+
+    private final ClientServicePort delegate;
+    private final ObservationRegistry observationRegistry;
+
+    private <T> T observe(String method, Supplier<T> call) {
+        return ClientObservations.observe(observationRegistry, METRIC_NAME, method, call);
+    }
+
+    private void observe(String method, Runnable call) {
+        ClientObservations.observe(observationRegistry, METRIC_NAME, method, call);
+    }
+
+    @Override
+    public void delete(UUID clientId, Long expectedVersion) {
+        observe("delete", () -> delegate.delete(clientId, expectedVersion));
+    }
+
+    @Override
+    public ClientPage<ClientView> findPage(String cursor, Integer size) {
+        return observe("findPage", () -> delegate.findPage(cursor, size));
+    }
+
+    @Override
+    public ClientPage<ClientView> search(ClientQuery query, String cursor, Integer size) {
+        return observe("search", () -> delegate.search(query, cursor, size));
+    }
+
+    @Override
+    public void streamAll(Consumer<ClientView> consumer) {
+        observe("streamAll", () -> delegate.streamAll(consumer));
+    }
+
+    @Override
+    public ClientChangePage<ClientChangeView> findChanges(String since, Integer size) {
+        return observe("findChanges", () -> delegate.findChanges(since, size));
+    }
+
+    @Override
+    public Optional<ClientView> findById(String id) {
+        return observe("findById", () -> delegate.findById(id));
+    }
+
+    @Override
+    public Map<UUID, ClientView> findAllByIds(Collection<UUID> ids) {
+        return observe("findAllByIds", () -> delegate.findAllByIds(ids));
+    }
+
+    @Override
+    public ClientEntity update(ClientEntity client) {
+        return observe("update", () -> delegate.update(client));
+    }
+
+    @Override
+    public ClientEntity create(ClientEntity client) {
+        return observe("create", () -> delegate.create(client));
+    }
+
+    @Override
+    public List<ClientBatchItem> createAll(List<ClientEntity> clients) {
+        return observe("createAll", () -> delegate.createAll(clients));
+    }
+}
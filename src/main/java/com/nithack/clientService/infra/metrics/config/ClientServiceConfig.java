@@ -0,0 +1,24 @@
+package com.nithack.clientService.infra.metrics.config;
+
+import com.nithack.clientService.application.port.ClientServicePort;
+import com.nithack.clientService.application.services.ClientServiceAdapter;
+import com.nithack.clientService.infra.metrics.ObservedClientServiceAdapter;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Expõe o {@link ClientServicePort} usado pelos controllers, observado por {@link ObservedClientServiceAdapter}.
+ */
+@Configuration
+@Profile("!reactive")
+public class ClientServiceConfig {
+
+    @Bean
+    @Primary
+    public ClientServicePort clientService(ClientServiceAdapter clientServiceAdapter, ObservationRegistry observationRegistry) {
+        return new ObservedClientServiceAdapter(clientServiceAdapter, observationRegistry);
+    }
+}
@@ -0,0 +1,167 @@
+package com.nithack.clientService.infra.outbox;
+
+import com.nithack.clientService.application.port.ClientEventSinkPort;
+import com.nithack.clientService.domain.entity.ClientChangeType;
+import com.nithack.clientService.domain.entity.ClientEvent;
+import com.nithack.clientService.infra.database.model.ClientOutboxRow;
+import com.nithack.clientService.infra.database.repository.ClientRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drena o outbox ({@code client_changes} com {@code published_at} nulo) em lotes, fora das threads de requisição.
+ * Cada worker reserva um lote com {@code FOR UPDATE SKIP LOCKED}, publica no {@link ClientEventSinkPort} e marca
+ * o lote como publicado na mesma transação; workers e instâncias diferentes nunca pegam o mesmo lote.
+ * Se a publicação falhar, a transação é desfeita e o lote volta a ser elegível no próximo ciclo.
+ * <p>
+ * A entrega não preserva a ordem de {@code seq}: com {@code parallelism} maior que 1 ou várias instâncias, lotes
+ * consecutivos são publicados ao mesmo tempo, e um lote que falhou é reentregue depois dos seguintes. Eventos do
+ * mesmo cliente podem, portanto, chegar ao sink fora de ordem; o consumidor deve ordená-los por {@code version}
+ * e descartar reentregas por {@code sequence}.
+ */
+@Slf4j
+public class ClientOutboxRelay implements SmartLifecycle {
+
+    static final String PUBLISHED_METRIC = "client.outbox.published";
+    static final String PUBLISH_METRIC = "client.outbox.publish";
+    static final String DELAY_METRIC = "client.outbox.delay";
+    static final String LAG_METRIC = "client.outbox.lag";
+
+    private final ClientRepository clientRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ClientEventSinkPort sink;
+    private final int batchSize;
+    private final int parallelism;
+    private final Duration pollInterval;
+
+    private final Counter published;
+    private final Timer publishSuccess;
+    private final Timer publishError;
+    private final Timer delay;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private volatile boolean running;
+    private ExecutorService workers;
+
+    public ClientOutboxRelay(ClientRepository clientRepository, TransactionTemplate transactionTemplate,
+                             ClientEventSinkPort sink, MeterRegistry meterRegistry,
+                             int batchSize, int parallelism, Duration pollInterval) {
+        this.clientRepository = clientRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.pollInterval = pollInterval;
+        this.published = Counter.builder(PUBLISHED_METRIC).register(meterRegistry);
+        this.publishSuccess = Timer.builder(PUBLISH_METRIC).tag("outcome", "success").register(meterRegistry);
+        this.publishError = Timer.builder(PUBLISH_METRIC).tag("outcome", "error").register(meterRegistry);
+        this.delay = Timer.builder(DELAY_METRIC).register(meterRegistry);
+        TimeGauge.builder(LAG_METRIC, lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        log.info("[start] Starting client outbox relay with {} workers and batch size {}", parallelism, batchSize);
+        running = true;
+        workers = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("client-outbox-", 0).factory());
+        for (int i = 0; i < parallelism; i++) {
+            workers.submit(this::poll);
+        }
+    }
+
+    @Override
+    public void stop() {
+        log.info("[stop] Stopping client outbox relay");
+        running = false;
+        workers.shutdownNow();
+        try {
+            if (!workers.awaitTermination(pollInterval.toMillis() + 5_000, TimeUnit.MILLISECONDS)) {
+                log.warn("[stop] Client outbox relay workers did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void poll() {
+        while (running) {
+            int count;
+            try {
+                count = drainOnce();
+                lagMillis.set(clientRepository.findOldestUnpublishedChangeAgeMillis().orElse(0L));
+            } catch (Exception e) {
+                log.error("[poll] Error draining client outbox, retrying in {}", pollInterval, e);
+                count = 0;
+            }
+            if (count < batchSize && !sleep()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Publica um lote do outbox em uma única transação.
+     *
+     * @return quantidade de eventos publicados; menor que o lote quando o outbox esvaziou.
+     */
+    int drainOnce() {
+        Integer count = transactionTemplate.execute(status -> {
+            List<ClientOutboxRow> rows = clientRepository.claimUnpublishedChanges(batchSize);
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            List<ClientEvent> events = rows.stream().map(ClientOutboxRelay::toEvent).toList();
+            long start = System.nanoTime();
+            try {
+                sink.publish(events);
+            } catch (RuntimeException e) {
+                publishError.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+            publishSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            clientRepository.markChangesPublished(rows.stream().map(ClientOutboxRow::getSeq).toList());
+            rows.forEach(row -> delay.record(row.getAgeMillis(), TimeUnit.MILLISECONDS));
+            published.increment(rows.size());
+            log.debug("[drainOnce] Published {} client events up to sequence {}", rows.size(), rows.getLast().getSeq());
+            return rows.size();
+        });
+        return count == null ? 0 : count;
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pollInterval);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static ClientEvent toEvent(ClientOutboxRow row) {
+        return ClientEvent.builder()
+                .sequence(row.getSeq())
+                .type(ClientChangeType.valueOf(row.getChangeType()).getEventName())
+                .clientId(row.getClientId())
+                .version(row.getVersion())
+                .occurredAt(row.getChangedAt())
+                .build();
+    }
+}
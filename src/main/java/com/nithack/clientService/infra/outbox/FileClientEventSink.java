@@ -0,0 +1,51 @@
+package com.nithack.clientService.infra.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithack.clientService.application.port.ClientEventSinkPort;
+import com.nithack.clientService.domain.entity.ClientEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sink que acrescenta cada lote de eventos a um arquivo NDJSON (um evento por linha), com uma única escrita por lote.
+ */
+@Slf4j
+public class FileClientEventSink implements ClientEventSinkPort {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileClientEventSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(List<ClientEvent> events) {
+        try {
+            ByteArrayOutputStream batch = new ByteArrayOutputStream(events.size() * 160);
+            for (ClientEvent event : events) {
+                batch.write(objectMapper.writeValueAsBytes(event));
+                batch.write('\n');
+            }
+            lock.lock();
+            try {
+                Files.write(file, batch.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            log.error("[publish] Error writing {} client events to {}", events.size(), file);
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.nithack.clientService.infra.outbox;
+
+import com.nithack.clientService.application.port.ClientEventSinkPort;
+import com.nithack.clientService.domain.entity.ClientEvent;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Sink que apenas guarda os eventos em memória; usado em testes ({@code client.outbox.sink=memory}).
+ */
+public class InMemoryClientEventSink implements ClientEventSinkPort {
+
+    private final ConcurrentLinkedQueue<ClientEvent> events = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void publish(List<ClientEvent> events) {
+        this.events.addAll(events);
+    }
+
+    public List<ClientEvent> getEvents() {
+        return List.copyOf(events);
+    }
+}
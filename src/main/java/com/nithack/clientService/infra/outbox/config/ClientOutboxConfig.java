@@ -0,0 +1,58 @@
+package com.nithack.clientService.infra.outbox.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nithack.clientService.application.port.ClientEventSinkPort;
+import com.nithack.clientService.infra.database.repository.ClientRepository;
+import com.nithack.clientService.infra.outbox.ClientOutboxRelay;
+import com.nithack.clientService.infra.outbox.FileClientEventSink;
+import com.nithack.clientService.infra.outbox.InMemoryClientEventSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Registra o relay do outbox de eventos de cliente. Ative com {@code client.outbox.enabled=true}.
+ * O sink é escolhido por {@code client.outbox.sink} ({@code file} ou {@code memory}); outro destino
+ * entra registrando um bean de {@link ClientEventSinkPort}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "client.outbox", name = "enabled", havingValue = "true")
+@Profile("!reactive")
+public class ClientOutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(ClientEventSinkPort.class)
+    @ConditionalOnProperty(prefix = "client.outbox", name = "sink", havingValue = "file", matchIfMissing = true)
+    public ClientEventSinkPort fileClientEventSink(@Value("${client.outbox.file:client-events.ndjson}") Path file,
+                                                  ObjectMapper objectMapper) {
+        return new FileClientEventSink(file, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ClientEventSinkPort.class)
+    @ConditionalOnProperty(prefix = "client.outbox", name = "sink", havingValue = "memory")
+    public ClientEventSinkPort inMemoryClientEventSink() {
+        return new InMemoryClientEventSink();
+    }
+
+    @Bean
+    public ClientOutboxRelay clientOutboxRelay(ClientRepository clientRepository,
+                                               PlatformTransactionManager transactionManager,
+                                               ClientEventSinkPort clientEventSink,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${client.outbox.batch-size:100}") int batchSize,
+                                               @Value("${client.outbox.parallelism:2}") int parallelism,
+                                               @Value("${client.outbox.poll-interval:500ms}") Duration pollInterval) {
+        return new ClientOutboxRelay(clientRepository, new TransactionTemplate(transactionManager), clientEventSink,
+                meterRegistry, batchSize, parallelism, pollInterval);
+    }
+}
@@ -0,0 +1,151 @@
+package com.nithack.clientService.infra.replica;
+
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.port.ClientDataServicePort;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.infra.database.repository.ClientRepository;
+import com.nithack.clientService.infra.database.routing.ReadYourWritesContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mantém o {@link CompactClientStore} em dia: carrega uma cópia completa da tabela ({@code streamAll}) e depois aplica
+ * o feed de alterações ({@code findChanges}) a cada {@code refreshInterval}. O feed é lido a partir do horizonte
+ * capturado antes da cópia, então alterações que aconteceram durante a carga são reaplicadas; como cada alteração traz
+ * o estado atual do cliente e o store ignora versões mais antigas, reaplicar é seguro.
+ * <p>
+ * Todas as leituras desta thread vão ao primário, para que a cópia e o horizonte venham do mesmo servidor.
+ */
+@Slf4j
+public class ClientReplicaSync implements SmartLifecycle {
+
+    static final String SIZE_METRIC = "client.replica.compact.size";
+    static final String MEMORY_METRIC = "client.replica.compact.memory";
+    static final String STALENESS_METRIC = "client.replica.compact.staleness";
+
+    private final CompactClientStore store;
+    private final ClientDataServicePort source;
+    private final ClientRepository clientRepository;
+    private final int batchSize;
+    private final Duration refreshInterval;
+    private final AtomicLong lastSyncMillis = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+    private ClientChangeCursor cursor;
+
+    public ClientReplicaSync(CompactClientStore store, ClientDataServicePort source, ClientRepository clientRepository,
+                             MeterRegistry meterRegistry, int batchSize, Duration refreshInterval) {
+        this.store = store;
+        this.source = source;
+        this.clientRepository = clientRepository;
+        this.batchSize = batchSize;
+        this.refreshInterval = refreshInterval;
+        Gauge.builder(SIZE_METRIC, store, CompactClientStore::size).register(meterRegistry);
+        Gauge.builder(MEMORY_METRIC, store, CompactClientStore::memoryBytes).baseUnit("bytes").register(meterRegistry);
+        TimeGauge.builder(STALENESS_METRIC, lastSyncMillis, TimeUnit.MILLISECONDS,
+                last -> last.get() == 0 ? 0 : System.currentTimeMillis() - last.get()).register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        log.info("[start] Starting compact client replica sync every {} with batch size {}", refreshInterval, batchSize);
+        running = true;
+        worker = Thread.ofPlatform().name("client-replica-sync").daemon().start(this::sync);
+    }
+
+    @Override
+    public void stop() {
+        log.info("[stop] Stopping compact client replica sync");
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(refreshInterval.plusSeconds(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void sync() {
+        ReadYourWritesContext.requirePrimary();
+        while (running) {
+            try {
+                if (cursor == null) {
+                    bootstrap();
+                }
+                if (syncOnce()) {
+                    continue;
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.error("[sync] Error synchronizing compact client replica, retrying in {}", refreshInterval, e);
+            }
+            if (!sleep()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Carrega a cópia completa da tabela; o store só passa a responder leituras ao final da carga.
+     */
+    void bootstrap() {
+        log.info("[bootstrap] Loading compact client replica");
+        long start = System.nanoTime();
+        long horizon = clientRepository.findChangeFeedHorizon();
+        store.clear();
+        source.streamAll(store::put);
+        store.markReady();
+        cursor = new ClientChangeCursor(horizon - 1, Long.MAX_VALUE);
+        lastSyncMillis.set(System.currentTimeMillis());
+        log.info("[bootstrap] Successfully loaded {} clients into {} bytes in {} ms",
+                store.size(), store.memoryBytes(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Aplica uma página do feed de alterações.
+     *
+     * @return {@code true} quando já existem mais alterações além desta página.
+     */
+    boolean syncOnce() {
+        ClientChangePage<ClientChangeView> page = source.findChanges(cursor, batchSize);
+        for (ClientChangeView change : page.getChanges()) {
+            if (change.getClient() == null) {
+                store.remove(change.getClientId());
+            } else {
+                store.put(change.getClient());
+            }
+        }
+        cursor = page.getNext();
+        lastSyncMillis.set(System.currentTimeMillis());
+        if (!page.getChanges().isEmpty()) {
+            log.debug("[syncOnce] Applied {} client changes", page.getChanges().size());
+        }
+        return page.isHasMore();
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(refreshInterval);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,512 @@
+package com.nithack.clientService.infra.replica;
+
+import com.nithack.clientService.application.dto.ClientView;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * Cópia da tabela de clientes em layout compacto fora do heap: cada cliente é um registro de tamanho fixo em um
+ * {@link ByteBuffer} direto, com UUID em dois {@code long}, datas em dia epoch, cidade e estado como IDs de dicionário
+ * e os demais textos empacotados em {@code long} quando são só dígitos (CPF, telefone, CEP) ou gravados em UTF-8 em um
+ * segundo buffer direto. O índice por ID é uma tabela hash de primitivos, sem objetos por cliente.
+ * <p>
+ * As escritas ({@link ClientReplicaSync} e as feitas por esta instância) são serializadas por um {@link StampedLock};
+ * as leituras são otimistas e só esperam quando coincidem com uma escrita. Os buffers contam em
+ * {@code -XX:MaxDirectMemorySize}, não no heap.
+ */
+public class CompactClientStore {
+
+    private static final int RECORD_SIZE = 80;
+    private static final int ID_MSB = 0;
+    private static final int ID_LSB = 8;
+    private static final int NAME = 16;
+    private static final int CPF = 24;
+    private static final int PHONE = 32;
+    private static final int STREET = 40;
+    private static final int POSTAL_CODE = 48;
+    private static final int VERSION = 56;
+    private static final int DATE_OF_BIRTH = 64;
+    private static final int CREATED_AT = 68;
+    private static final int CITY = 72;
+    private static final int STATE = 76;
+    private static final int[] TEXT_FIELDS = {NAME, CPF, PHONE, STREET, POSTAL_CODE};
+
+    private static final long NULL_TEXT = 0;
+    private static final long HEAP_TEXT = Long.MIN_VALUE;
+    private static final int TEXT_LENGTH_BITS = 20;
+    private static final int MAX_PACKED_DIGITS = 17;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final long NO_VERSION = Long.MIN_VALUE;
+    private static final int MIN_COMPACTION_GARBAGE = 1 << 16;
+
+    private final StampedLock lock = new StampedLock();
+    private final int initialCapacity;
+    private final Dictionary cities = new Dictionary();
+    private final Dictionary states = new Dictionary();
+
+    private ByteBuffer records;
+    private ByteBuffer texts;
+    private SlotIndex byId;
+    private int[] freeSlots;
+    private int freeCount;
+    private int highWater;
+    private int size;
+    private int textsEnd;
+    private int garbageBytes;
+    private volatile boolean ready;
+
+    public CompactClientStore(int initialCapacity) {
+        this.initialCapacity = Math.max(16, initialCapacity);
+        reset();
+    }
+
+    /**
+     * Descarta todos os registros; o store volta a não estar pronto até {@link #markReady()}.
+     */
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            ready = false;
+            reset();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Grava o cliente, substituindo o registro do mesmo ID a menos que ele tenha versão mais nova.
+     *
+     * @return {@code false} quando o registro existente é mais novo e foi mantido.
+     */
+    public boolean put(ClientView client) {
+        long stamp = lock.writeLock();
+        try {
+            UUID id = client.getId();
+            int slot = byId.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (slot >= 0) {
+                long storedVersion = records.getLong(slot * RECORD_SIZE + VERSION);
+                if (storedVersion != NO_VERSION && client.getVersion() != null && client.getVersion() < storedVersion) {
+                    return false;
+                }
+                release(slot);
+            } else {
+                slot = allocate();
+                byId.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), slot);
+                size++;
+            }
+            write(slot, client);
+            compactTextsIfNeeded();
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(UUID clientId) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = byId.remove(clientId.getMostSignificantBits(), clientId.getLeastSignificantBits());
+            if (slot < 0) {
+                return;
+            }
+            release(slot);
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+            }
+            freeSlots[freeCount++] = slot;
+            size--;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public Optional<ClientView> find(UUID clientId) {
+        return read(() -> {
+            int slot = byId.get(clientId.getMostSignificantBits(), clientId.getLeastSignificantBits());
+            return slot < 0 ? Optional.empty() : Optional.of(view(slot));
+        });
+    }
+
+    /**
+     * Visão por ID de vários clientes, na ordem pedida e sem os ausentes.
+     */
+    public Map<UUID, ClientView> findAll(Iterable<UUID> clientIds) {
+        return read(() -> {
+            Map<UUID, ClientView> clients = new LinkedHashMap<>();
+            for (UUID clientId : clientIds) {
+                int slot = byId.get(clientId.getMostSignificantBits(), clientId.getLeastSignificantBits());
+                if (slot >= 0) {
+                    clients.put(clientId, view(slot));
+                }
+            }
+            return clients;
+        });
+    }
+
+    public int size() {
+        return read(() -> size);
+    }
+
+    /**
+     * Memória ocupada pelos buffers e índices, incluindo a folga reservada para crescer.
+     */
+    public long memoryBytes() {
+        return read(() -> (long) records.capacity() + texts.capacity() + byId.memoryBytes()
+                + (long) freeSlots.length * Integer.BYTES);
+    }
+
+    /**
+     * Executa a leitura sem lock e a repete sob o lock de leitura se uma escrita aconteceu no meio; uma leitura
+     * inconsistente pode lançar exceção (posição fora do buffer), que também é descartada e repetida.
+     */
+    private <T> T read(Supplier<T> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                T result = reader.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void reset() {
+        records = ByteBuffer.allocateDirect(initialCapacity * RECORD_SIZE);
+        texts = ByteBuffer.allocateDirect(initialCapacity * 32);
+        byId = new SlotIndex(initialCapacity);
+        freeSlots = new int[16];
+        freeCount = 0;
+        highWater = 0;
+        size = 0;
+        textsEnd = 0;
+        garbageBytes = 0;
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if ((highWater + 1) * RECORD_SIZE > records.capacity()) {
+            records = grow(records, highWater * RECORD_SIZE, (long) records.capacity() * 2);
+        }
+        return highWater++;
+    }
+
+    /**
+     * Libera os textos do registro que será sobrescrito ou removido.
+     */
+    private void release(int slot) {
+        int base = slot * RECORD_SIZE;
+        for (int field : TEXT_FIELDS) {
+            long text = records.getLong(base + field);
+            if (text < 0) {
+                garbageBytes += (int) (text & ((1 << TEXT_LENGTH_BITS) - 1));
+            }
+        }
+    }
+
+    private void write(int slot, ClientView client) {
+        int base = slot * RECORD_SIZE;
+        records.putLong(base + ID_MSB, client.getId().getMostSignificantBits());
+        records.putLong(base + ID_LSB, client.getId().getLeastSignificantBits());
+        records.putLong(base + NAME, encode(client.getName()));
+        records.putLong(base + CPF, encode(client.getCpf()));
+        records.putLong(base + PHONE, encode(client.getPhone()));
+        records.putLong(base + STREET, encode(client.getStreet()));
+        records.putLong(base + POSTAL_CODE, encode(client.getPostalCode()));
+        records.putLong(base + VERSION, client.getVersion() == null ? NO_VERSION : client.getVersion());
+        records.putInt(base + DATE_OF_BIRTH, encode(client.getDateOfBirth()));
+        records.putInt(base + CREATED_AT, encode(client.getCreatedAt()));
+        records.putInt(base + CITY, cities.encode(client.getCity()));
+        records.putInt(base + STATE, states.encode(client.getState()));
+    }
+
+    private ClientView view(int slot) {
+        ByteBuffer current = records;
+        int base = slot * RECORD_SIZE;
+        long version = current.getLong(base + VERSION);
+        return new ClientView(
+                new UUID(current.getLong(base + ID_MSB), current.getLong(base + ID_LSB)),
+                decode(current.getLong(base + NAME)),
+                decode(current.getLong(base + CPF)),
+                decode(current.getLong(base + PHONE)),
+                decode(current.getInt(base + DATE_OF_BIRTH)),
+                cities.decode(current.getInt(base + CITY)),
+                states.decode(current.getInt(base + STATE)),
+                decode(current.getLong(base + STREET)),
+                decode(current.getLong(base + POSTAL_CODE)),
+                version == NO_VERSION ? null : version,
+                decode(current.getInt(base + CREATED_AT)));
+    }
+
+    /**
+     * Codifica um texto em {@code long}: 0 é nulo, positivo é o texto de dígitos empacotado com um 1 à esquerda
+     * (preservando zeros à esquerda) e negativo é a posição e o tamanho dos bytes UTF-8 no buffer de textos.
+     */
+    private long encode(String value) {
+        if (value == null) {
+            return NULL_TEXT;
+        }
+        long packed = packDigits(value);
+        if (packed > 0) {
+            return packed;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= 1 << TEXT_LENGTH_BITS) {
+            throw new IllegalArgumentException("Text too long for compact store: " + bytes.length + " bytes");
+        }
+        if (textsEnd + bytes.length > texts.capacity()) {
+            texts = grow(texts, textsEnd, Math.max((long) texts.capacity() * 2, textsEnd + bytes.length));
+        }
+        long reference = HEAP_TEXT | ((long) textsEnd << TEXT_LENGTH_BITS) | bytes.length;
+        texts.put(textsEnd, bytes);
+        textsEnd += bytes.length;
+        return reference;
+    }
+
+    private String decode(long value) {
+        if (value == NULL_TEXT) {
+            return null;
+        }
+        if (value > 0) {
+            return unpackDigits(value);
+        }
+        int offset = (int) ((value & ~HEAP_TEXT) >>> TEXT_LENGTH_BITS);
+        byte[] bytes = new byte[(int) (value & ((1 << TEXT_LENGTH_BITS) - 1))];
+        texts.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String unpackDigits(long packed) {
+        byte[] digits = new byte[MAX_PACKED_DIGITS + 1];
+        int start = digits.length;
+        for (long rest = packed; rest > 0; rest /= 10) {
+            digits[--start] = (byte) ('0' + rest % 10);
+        }
+        return new String(digits, start + 1, digits.length - start - 1, StandardCharsets.ISO_8859_1);
+    }
+
+    private static int encode(LocalDate date) {
+        return date == null ? NO_DATE : (int) date.toEpochDay();
+    }
+
+    private static LocalDate decode(int epochDay) {
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    static long packDigits(String value) {
+        if (value == null || value.isEmpty() || value.length() > MAX_PACKED_DIGITS) {
+            return -1;
+        }
+        long packed = 1;
+        for (int i = 0; i < value.length(); i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            packed = packed * 10 + digit;
+        }
+        return packed;
+    }
+
+    /**
+     * Regrava o buffer de textos só com os textos vivos quando os sobrescritos passam da metade dele.
+     */
+    private void compactTextsIfNeeded() {
+        if (garbageBytes < MIN_COMPACTION_GARBAGE || garbageBytes < textsEnd / 2) {
+            return;
+        }
+        ByteBuffer compacted = ByteBuffer.allocateDirect(Math.max(initialCapacity * 32, (textsEnd - garbageBytes) * 2));
+        int end = 0;
+        for (int slot = 0; slot < highWater; slot++) {
+            int base = slot * RECORD_SIZE;
+            if (byId.get(records.getLong(base + ID_MSB), records.getLong(base + ID_LSB)) != slot) {
+                continue;
+            }
+            for (int field : TEXT_FIELDS) {
+                long text = records.getLong(base + field);
+                if (text < 0) {
+                    int offset = (int) ((text & ~HEAP_TEXT) >>> TEXT_LENGTH_BITS);
+                    int length = (int) (text & ((1 << TEXT_LENGTH_BITS) - 1));
+                    compacted.put(end, texts, offset, length);
+                    records.putLong(base + field, HEAP_TEXT | ((long) end << TEXT_LENGTH_BITS) | length);
+                    end += length;
+                }
+            }
+        }
+        texts = compacted;
+        textsEnd = end;
+        garbageBytes = 0;
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer, int used, long capacity) {
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Compact client store exceeded " + Integer.MAX_VALUE + " bytes");
+        }
+        ByteBuffer grown = ByteBuffer.allocateDirect((int) capacity);
+        grown.put(0, buffer, 0, used);
+        return grown;
+    }
+
+    /**
+     * Dicionário de textos repetitivos (cidade, estado): cada valor distinto é guardado uma vez e referenciado por ID.
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private String[] values = new String[64];
+
+        private int encode(String value) {
+            if (value == null) {
+                return -1;
+            }
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = ids.size();
+                if (id == values.length) {
+                    values = Arrays.copyOf(values, values.length * 2);
+                }
+                values[id] = value;
+                ids.put(value, id);
+            }
+            return id;
+        }
+
+        private String decode(int id) {
+            return id < 0 ? null : values[id];
+        }
+    }
+
+    /**
+     * Tabela hash de endereçamento aberto (sondagem linear) de UUID, em dois {@code long}, para posição do registro.
+     * Remoções deslocam as entradas seguintes em vez de deixar lápides.
+     */
+    private static final class SlotIndex {
+        private long[] his;
+        private long[] los;
+        private int[] slots;
+        private int count;
+
+        private SlotIndex(int expected) {
+            allocate(Integer.highestOneBit(Math.max(16, expected) * 2 - 1) * 2);
+        }
+
+        private int get(long hi, long lo) {
+            long[] currentHis = his;
+            long[] currentLos = los;
+            int[] currentSlots = slots;
+            int mask = currentSlots.length - 1;
+            for (int i = hash(hi, lo) & mask; currentSlots[i] != 0; i = (i + 1) & mask) {
+                if (currentLos[i] == lo && currentHis[i] == hi) {
+                    return currentSlots[i] - 1;
+                }
+            }
+            return -1;
+        }
+
+        private void put(long hi, long lo, int slot) {
+            if ((count + 1) * 2 > slots.length) {
+                rehash(slots.length * 2);
+            }
+            int mask = slots.length - 1;
+            int i = hash(hi, lo) & mask;
+            while (slots[i] != 0) {
+                if (los[i] == lo && his[i] == hi) {
+                    slots[i] = slot + 1;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            his[i] = hi;
+            los[i] = lo;
+            slots[i] = slot + 1;
+            count++;
+        }
+
+        private int remove(long hi, long lo) {
+            int mask = slots.length - 1;
+            int i = hash(hi, lo) & mask;
+            while (slots[i] != 0 && !(los[i] == lo && his[i] == hi)) {
+                i = (i + 1) & mask;
+            }
+            if (slots[i] == 0) {
+                return -1;
+            }
+            int removed = slots[i] - 1;
+            slots[i] = 0;
+            count--;
+            for (int j = (i + 1) & mask; slots[j] != 0; j = (j + 1) & mask) {
+                int home = hash(his[j], los[j]) & mask;
+                boolean movable = i <= j ? (home <= i || home > j) : (home <= i && home > j);
+                if (movable) {
+                    his[i] = his[j];
+                    los[i] = los[j];
+                    slots[i] = slots[j];
+                    slots[j] = 0;
+                    i = j;
+                }
+            }
+            return removed;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldHis = his;
+            long[] oldLos = los;
+            int[] oldSlots = slots;
+            allocate(capacity);
+            count = 0;
+            for (int i = 0; i < oldSlots.length; i++) {
+                if (oldSlots[i] != 0) {
+                    put(oldHis[i], oldLos[i], oldSlots[i] - 1);
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            his = new long[capacity];
+            los = new long[capacity];
+            slots = new int[capacity];
+        }
+
+        private long memoryBytes() {
+            return (long) slots.length * (2 * Long.BYTES + Integer.BYTES);
+        }
+
+        private static int hash(long hi, long lo) {
+            long h = hi ^ Long.rotateLeft(lo, 32);
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            return (int) (h ^ (h >>> 33));
+        }
+    }
+}
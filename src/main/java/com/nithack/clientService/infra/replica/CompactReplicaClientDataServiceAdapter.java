@@ -0,0 +1,123 @@
+package com.nithack.clientService.infra.replica;
+
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.mapper.ClientMapper;
+import com.nithack.clientService.application.port.ClientDataServicePort;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientCursor;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
+import com.nithack.clientService.infra.database.routing.ReadYourWritesContext;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Decorator de {@link ClientDataServicePort} que responde as leituras por ID ({@code findById} e
+ * {@code findAllByIds}) pelo {@link CompactClientStore}, sem ir ao banco. Enquanto o store não terminou a carga
+ * inicial, ou quando a requisição precisa ler do primário ({@link ReadYourWritesContext}), elas vão ao delegate;
+ * páginas, busca, exportação e feed continuam sempre no banco.
+ * <p>
+ * As checagens de existência (ID e CPF) também vão sempre ao banco: decidem conflitos de CPF e a diferença entre
+ * 404 e 412, e o store pode estar até um ciclo de sincronização atrás das escritas de outras instâncias.
+ * <p>
+ * Escritas vão ao delegate e são aplicadas no store logo em seguida, para que esta instância leia o que acabou de
+ * gravar sem esperar o próximo ciclo do {@link ClientReplicaSync}.
+ */
+public class CompactReplicaClientDataServiceAdapter implements ClientDataServicePort {
+
+    private final ClientDataServicePort delegate;
+    private final CompactClientStore store;
+
+    public CompactReplicaClientDataServiceAdapter(ClientDataServicePort delegate, CompactClientStore store) {
+        this.delegate = delegate;
+        this.store = store;
+    }
+
+    @Override
+    public long deleteReturningCount(UUID clientId, Long expectedVersion) {
+        long deleted = delegate.deleteReturningCount(clientId, expectedVersion);
+        if (deleted > 0) {
+            store.remove(clientId);
+        }
+        return deleted;
+    }
+
+    @Override
+    public ClientPage<ClientView> findPage(ClientCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public ClientPage<ClientView> search(ClientQuery query, ClientCursor after, int limit) {
+        return delegate.search(query, after, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<ClientView> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public ClientChangePage<ClientChangeView> findChanges(ClientChangeCursor after, int limit) {
+        return delegate.findChanges(after, limit);
+    }
+
+    @Override
+    public Optional<ClientView> findById(UUID clientId) {
+        return isServable() ? store.find(clientId) : delegate.findById(clientId);
+    }
+
+    @Override
+    public Map<UUID, ClientView> findAllByIds(Collection<UUID> clientIds) {
+        return isServable() ? store.findAll(clientIds) : delegate.findAllByIds(clientIds);
+    }
+
+    @Override
+    public ClientEntity save(ClientEntity client) {
+        ClientEntity saved = delegate.save(client);
+        store.put(ClientMapper.toView(saved));
+        return saved;
+    }
+
+    @Override
+    public Optional<ClientEntity> updateReturning(ClientEntity client) {
+        Optional<ClientEntity> updated = delegate.updateReturning(client);
+        updated.ifPresent(entity -> store.put(ClientMapper.toView(entity)));
+        return updated;
+    }
+
+    @Override
+    public List<ClientEntity> saveAll(List<ClientEntity> clients) {
+        List<ClientEntity> saved = delegate.saveAll(clients);
+        saved.forEach(entity -> store.put(ClientMapper.toView(entity)));
+        return saved;
+    }
+
+    @Override
+    public boolean existsById(UUID clientId) {
+        return delegate.existsById(clientId);
+    }
+
+    @Override
+    public boolean existsByCpf(String cpf) {
+        return delegate.existsByCpf(cpf);
+    }
+
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        return delegate.findExistingCpfs(cpfs);
+    }
+
+    private boolean isServable() {
+        return store.isReady() && !ReadYourWritesContext.isPrimaryRequired();
+    }
+}
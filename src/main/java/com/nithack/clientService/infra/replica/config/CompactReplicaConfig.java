@@ -0,0 +1,40 @@
+package com.nithack.clientService.infra.replica.config;
+
+import com.nithack.clientService.infra.database.repository.ClientRepository;
+import com.nithack.clientService.infra.database.service.ClientDataServiceAdapter;
+import com.nithack.clientService.infra.replica.ClientReplicaSync;
+import com.nithack.clientService.infra.replica.CompactClientStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * Registra a réplica compacta da tabela de clientes para nós de leitura. Ative com
+ * {@code client.replica.compact.enabled=true}; as leituras por ID passam a ser respondidas em memória depois da carga.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "client.replica.compact", name = "enabled", havingValue = "true")
+@Profile("!reactive")
+public class CompactReplicaConfig {
+
+    @Bean
+    public CompactClientStore compactClientStore(@Value("${client.replica.compact.initial-capacity:1024}") int initialCapacity) {
+        return new CompactClientStore(initialCapacity);
+    }
+
+    @Bean
+    public ClientReplicaSync clientReplicaSync(CompactClientStore compactClientStore,
+                                               ClientDataServiceAdapter clientDataServiceAdapter,
+                                               ClientRepository clientRepository,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${client.replica.compact.batch-size:1000}") int batchSize,
+                                               @Value("${client.replica.compact.refresh-interval:1s}") Duration refreshInterval) {
+        return new ClientReplicaSync(compactClientStore, clientDataServiceAdapter, clientRepository, meterRegistry,
+                batchSize, refreshInterval);
+    }
+}
@@ -0,0 +1,54 @@
+package com.nithack.clientService.infra.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Exporta todos os clientes, com endereço, para um arquivo no formato binário do {@code COPY}
+ * ({@link ClientSnapshotFormat}). O banco escreve direto no arquivo, sem passar por entidades ou JSON, e a consulta
+ * única garante um retrato consistente da tabela. O arquivo só aparece no destino depois de completo.
+ */
+@Slf4j
+public class ClientSnapshotExporter {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final DataSource dataSource;
+
+    public ClientSnapshotExporter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * @return quantidade de clientes exportados.
+     */
+    public long export(Path file) throws SQLException, IOException {
+        log.info("[export] Exporting client snapshot to {}", file);
+        long start = System.nanoTime();
+        Path partial = file.resolveSibling(file.getFileName() + ".partial");
+        long rows;
+        try (Connection connection = dataSource.getConnection();
+             OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial), BUFFER_SIZE)) {
+            rows = connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyOut("copy (" + ClientSnapshotFormat.SNAPSHOT_QUERY + ") to stdout (format binary)", out);
+        } catch (SQLException | IOException e) {
+            log.error("[export] Error exporting client snapshot to {}", file, e);
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+        Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("[export] Successfully exported {} clients ({} bytes) in {} ms",
+                rows, Files.size(file), (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+}
@@ -0,0 +1,64 @@
+package com.nithack.clientService.infra.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Formato do snapshot de clientes: o formato binário do {@code COPY} do PostgreSQL com uma linha por cliente e o
+ * endereço nas mesmas colunas ({@link #SNAPSHOT_QUERY}). Cabeçalho de 19 bytes (assinatura, flags, extensão),
+ * cada linha com a quantidade de campos em {@code int16} e cada campo com o tamanho em {@code int32} (-1 para nulo)
+ * seguido dos bytes, e um trailer {@code int16} -1.
+ */
+public final class ClientSnapshotFormat {
+
+    /**
+     * Colunas do snapshot; a tabela de carga é criada a partir desta mesma consulta, então os tipos sempre coincidem.
+     */
+    static final String SNAPSHOT_QUERY = "select c.id, c.cpf, c.name, c.date_of_birth, c.phone, c.created_at,"
+            + " c.updated_at, c.version, a.id as address_id, a.street, a.city, a.state, a.postal_code"
+            + " from clients c left join addresses a on a.id = c.address_id";
+
+    static final byte[] TRAILER = {-1, -1};
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final int FIXED_HEADER_LENGTH = SIGNATURE.length + 2 * Integer.BYTES;
+
+    private ClientSnapshotFormat() {
+        throw new RuntimeException("Util Class");
+    }
+
+    /**
+     * Lê e valida o cabeçalho do arquivo.
+     *
+     * @return os bytes do cabeçalho, reenviados no início de cada parte carregada.
+     */
+    static byte[] readHeader(FileChannel channel) throws IOException {
+        ByteBuffer fixed = ByteBuffer.allocate(FIXED_HEADER_LENGTH);
+        channel.read(fixed, 0);
+        if (fixed.position() < FIXED_HEADER_LENGTH
+                || !Arrays.equals(fixed.array(), 0, SIGNATURE.length, SIGNATURE, 0, SIGNATURE.length)) {
+            throw new IllegalArgumentException("File is not a client snapshot (binary COPY format)");
+        }
+        int extensionLength = fixed.getInt(SIGNATURE.length + Integer.BYTES);
+        ByteBuffer header = ByteBuffer.allocate(FIXED_HEADER_LENGTH + extensionLength);
+        channel.read(header, 0);
+        return header.array();
+    }
+
+    /**
+     * Tamanho em bytes da linha que começa em {@code position}, ou -1 quando ali está o trailer.
+     */
+    static int rowLength(ByteBuffer buffer, int position) {
+        short fields = buffer.getShort(position);
+        if (fields == -1) {
+            return -1;
+        }
+        int offset = position + Short.BYTES;
+        for (int i = 0; i < fields; i++) {
+            int length = buffer.getInt(offset);
+            offset += Integer.BYTES + Math.max(length, 0);
+        }
+        return offset - position;
+    }
+}
@@ -0,0 +1,207 @@
+package com.nithack.clientService.infra.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Importa um snapshot gerado pelo {@link ClientSnapshotExporter}. O arquivo é lido por mapeamento em memória e dividido
+ * em partes de cerca de {@code chunkBytes} nos limites de linha; cada parte é carregada por um worker em sua própria
+ * conexão e transação: {@code COPY FROM STDIN} binário para uma tabela temporária e um único insert que grava clientes
+ * e endereços, ignorando os clientes que já existem (ID, CPF ou telefone).
+ * <p>
+ * Partes já confirmadas permanecem se outra falhar; repetir a importação é seguro. A importação não grava o feed de
+ * alterações, então caches e réplicas em memória de instâncias em execução só veem os clientes importados quando
+ * forem recarregados.
+ */
+@Slf4j
+public class ClientSnapshotImporter {
+
+    private static final int SCAN_WINDOW_BYTES = 1 << 28;
+    private static final int MAX_ROW_BYTES = 1 << 16;
+    private static final int COPY_BUFFER_SIZE = 1 << 20;
+
+    private static final String CREATE_STAGING = "create temp table client_snapshot_import on commit drop as "
+            + ClientSnapshotFormat.SNAPSHOT_QUERY + " with no data";
+    private static final String COPY_STAGING = "copy client_snapshot_import from stdin (format binary)";
+    private static final String MERGE_STAGING = "with new_clients as ("
+            + " insert into clients (id, cpf, name, date_of_birth, phone, address_id, created_at, updated_at, version)"
+            + " select id, cpf, name, date_of_birth, phone, address_id, created_at, updated_at, version"
+            + " from client_snapshot_import on conflict do nothing returning id),"
+            + " new_addresses as ("
+            + " insert into addresses (id, street, city, state, postal_code)"
+            + " select s.address_id, s.street, s.city, s.state, s.postal_code"
+            + " from client_snapshot_import s join new_clients n on n.id = s.id where s.address_id is not null"
+            + " on conflict (id) do nothing)"
+            + " select count(*) from new_clients";
+
+    private final DataSource dataSource;
+    private final int parallelism;
+    private final long chunkBytes;
+
+    public ClientSnapshotImporter(DataSource dataSource, int parallelism, long chunkBytes) {
+        this.dataSource = dataSource;
+        this.parallelism = parallelism;
+        this.chunkBytes = Math.min(chunkBytes, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return quantidade de clientes lidos do arquivo e quantos deles foram inseridos.
+     */
+    public ImportResult importFrom(Path file) throws IOException {
+        log.info("[importFrom] Importing client snapshot from {} with {} loaders", file, parallelism);
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            byte[] header = ClientSnapshotFormat.readHeader(channel);
+            List<Chunk> chunks = split(channel, header.length);
+            log.info("[importFrom] Split {} bytes into {} chunks in {} ms",
+                    channel.size(), chunks.size(), (System.nanoTime() - start) / 1_000_000);
+            ExecutorService loaders = Executors.newFixedThreadPool(parallelism,
+                    Thread.ofPlatform().name("client-snapshot-", 0).factory());
+            try {
+                List<Future<ImportResult>> loads = chunks.stream()
+                        .map(chunk -> loaders.submit(() -> load(channel, header, chunk)))
+                        .toList();
+                ImportResult total = collect(loads);
+                log.info("[importFrom] Successfully imported {} of {} clients in {} ms",
+                        total.inserted(), total.read(), (System.nanoTime() - start) / 1_000_000);
+                return total;
+            } finally {
+                loaders.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Percorre as linhas do arquivo (só os tamanhos dos campos) para achar os limites das partes.
+     */
+    private List<Chunk> split(FileChannel channel, int headerLength) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        long size = channel.size();
+        long chunkStart = headerLength;
+        long position = headerLength;
+        MappedByteBuffer window = null;
+        long windowStart = 0;
+        while (true) {
+            boolean nearWindowEnd = window != null && position - windowStart + MAX_ROW_BYTES > window.capacity()
+                    && windowStart + window.capacity() < size;
+            if (window == null || nearWindowEnd) {
+                windowStart = position;
+                window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart,
+                        Math.min(SCAN_WINDOW_BYTES, size - windowStart));
+            }
+            int rowLength;
+            try {
+                rowLength = ClientSnapshotFormat.rowLength(window, (int) (position - windowStart));
+            } catch (IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException(
+                        "Client snapshot is truncated or has a row over " + MAX_ROW_BYTES + " bytes", e);
+            }
+            if (rowLength < 0) {
+                break;
+            }
+            position += rowLength;
+            if (position - chunkStart >= chunkBytes) {
+                chunks.add(new Chunk(chunkStart, position));
+                chunkStart = position;
+            }
+        }
+        if (position > chunkStart) {
+            chunks.add(new Chunk(chunkStart, position));
+        }
+        return chunks;
+    }
+
+    private ImportResult load(FileChannel channel, byte[] header, Chunk chunk) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("set local synchronous_commit = off");
+                    statement.execute(CREATE_STAGING);
+                }
+                long copied = copy(connection, channel, header, chunk);
+                long inserted;
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery(MERGE_STAGING)) {
+                    resultSet.next();
+                    inserted = resultSet.getLong(1);
+                }
+                connection.commit();
+                log.debug("[load] Imported {} of {} clients from bytes {}-{}", inserted, copied, chunk.start(), chunk.end());
+                return new ImportResult(copied, inserted);
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private static long copy(Connection connection, FileChannel channel, byte[] header, Chunk chunk)
+            throws SQLException, IOException {
+        MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.end() - chunk.start());
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING);
+        try {
+            copyIn.writeToCopy(header, 0, header.length);
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            while (data.hasRemaining()) {
+                int length = Math.min(buffer.length, data.remaining());
+                data.get(buffer, 0, length);
+                copyIn.writeToCopy(buffer, 0, length);
+            }
+            copyIn.writeToCopy(ClientSnapshotFormat.TRAILER, 0, ClientSnapshotFormat.TRAILER.length);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static ImportResult collect(List<Future<ImportResult>> loads) {
+        long read = 0;
+        long inserted = 0;
+        int failed = 0;
+        for (Future<ImportResult> load : loads) {
+            try {
+                ImportResult result = load.get();
+                read += result.read();
+                inserted += result.inserted();
+            } catch (ExecutionException e) {
+                failed++;
+                log.error("[collect] Error importing client snapshot chunk", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while importing client snapshot", e);
+            }
+        }
+        if (failed > 0) {
+            throw new IllegalStateException(failed + " of " + loads.size() + " snapshot chunks failed after importing "
+                    + inserted + " clients; importing again skips the clients already imported");
+        }
+        return new ImportResult(read, inserted);
+    }
+
+    public record ImportResult(long read, long inserted) {
+    }
+
+    private record Chunk(long start, long end) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.nithack.clientService.infra.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+
+/**
+ * Modo de linha de comando da aplicação (profile {@code snapshot}): com {@code client.snapshot.mode} ({@code export}
+ * ou {@code import}) e {@code client.snapshot.file}, executa a exportação ou importação na subida e encerra o processo
+ * com o código de saída do resultado (0 em sucesso, 1 em erro).
+ */
+@Slf4j
+public class ClientSnapshotRunner implements ApplicationRunner {
+
+    private final ClientSnapshotExporter exporter;
+    private final ClientSnapshotImporter importer;
+    private final ConfigurableApplicationContext context;
+    private final String mode;
+    private final Path file;
+
+    public ClientSnapshotRunner(ClientSnapshotExporter exporter, ClientSnapshotImporter importer,
+                                ConfigurableApplicationContext context, String mode, Path file) {
+        this.exporter = exporter;
+        this.importer = importer;
+        this.context = context;
+        this.mode = mode;
+        this.file = file;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode;
+        try {
+            switch (mode) {
+                case "export" -> exporter.export(file);
+                case "import" -> importer.importFrom(file);
+                default -> throw new IllegalArgumentException("Unknown client snapshot mode: " + mode);
+            }
+            exitCode = 0;
+        } catch (Exception e) {
+            log.error("[run] Client snapshot {} of {} failed", mode, file, e);
+            exitCode = 1;
+        }
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+}
@@ -0,0 +1,45 @@
+package com.nithack.clientService.infra.snapshot.config;
+
+import com.nithack.clientService.infra.snapshot.ClientSnapshotExporter;
+import com.nithack.clientService.infra.snapshot.ClientSnapshotImporter;
+import com.nithack.clientService.infra.snapshot.ClientSnapshotRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
+/**
+ * Registra a exportação e a importação do snapshot binário de clientes. Só é carregada no profile {@code snapshot}
+ * ({@code application-snapshot.yml}), que sobe a aplicação sem servidor web e sem os workers em segundo plano;
+ * {@code client.snapshot.mode} escolhe entre {@code export} e {@code import}.
+ */
+@Configuration
+@Profile("snapshot & !reactive")
+public class ClientSnapshotConfig {
+
+    @Bean
+    public ClientSnapshotExporter clientSnapshotExporter(DataSource dataSource) {
+        return new ClientSnapshotExporter(dataSource);
+    }
+
+    @Bean
+    public ClientSnapshotImporter clientSnapshotImporter(DataSource dataSource,
+                                                         @Value("${client.snapshot.parallelism:4}") int parallelism,
+                                                         @Value("${client.snapshot.chunk-size:64MB}") DataSize chunkSize) {
+        return new ClientSnapshotImporter(dataSource, parallelism, chunkSize.toBytes());
+    }
+
+    @Bean
+    public ClientSnapshotRunner clientSnapshotRunner(ClientSnapshotExporter clientSnapshotExporter,
+                                                     ClientSnapshotImporter clientSnapshotImporter,
+                                                     ConfigurableApplicationContext context,
+                                                     @Value("${client.snapshot.mode:}") String mode,
+                                                     @Value("${client.snapshot.file:clients.pgcopy}") Path file) {
+        return new ClientSnapshotRunner(clientSnapshotExporter, clientSnapshotImporter, context, mode, file);
+    }
+}
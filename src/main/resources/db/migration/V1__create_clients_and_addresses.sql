@@ -0,0 +1,28 @@
+-- Schema inicial de clientes. "if not exists" permite aplicar sobre bancos criados antes pelo ddl-auto=update.
+create table if not exists addresses (
+    id          uuid         not null,
+    street      varchar(255) not null,
+    city        varchar(255) not null,
+    state       varchar(255) not null,
+    postal_code varchar(255) not null,
+    constraint pk_addresses primary key (id)
+);
+
+create table if not exists clients (
+    id            uuid         not null,
+    cpf           varchar(255) not null,
+    name          varchar(255) not null,
+    date_of_birth date         not null,
+    phone         varchar(255) not null,
+    address_id    uuid,
+    created_at    date         not null,
+    updated_at    date         not null,
+    constraint pk_clients primary key (id),
+    constraint uk_clients_cpf unique (cpf),
+    constraint uk_clients_phone unique (phone),
+    constraint uk_clients_address_id unique (address_id),
+    constraint fk_clients_address foreign key (address_id) references addresses (id)
+);
+
+-- keyset da listagem paginada: order by created_at, id
+create index if not exists idx_clients_created_at_id on clients (created_at, id);
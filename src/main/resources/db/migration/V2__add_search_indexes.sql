@@ -0,0 +1,8 @@
+-- Índices da busca de clientes (GET /clients/search).
+create extension if not exists pg_trgm;
+
+-- prefixo do nome com ilike
+create index if not exists idx_clients_name_trgm on clients using gin (name gin_trgm_ops);
+create index if not exists idx_clients_date_of_birth on clients (date_of_birth);
+create index if not exists idx_addresses_state_city on addresses (state, city);
+create index if not exists idx_addresses_postal_code on addresses (postal_code);
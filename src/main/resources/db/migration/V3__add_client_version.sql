@@ -0,0 +1,2 @@
+-- Versão do cliente para controle otimista de concorrência e ETag; incrementada a cada atualização.
+alter table clients add column if not exists version bigint not null default 0;
@@ -0,0 +1,13 @@
+-- Feed de alterações de clientes (GET /clients/changes), gravado na mesma transação de cada escrita.
+-- tx_id é a transação que gravou a linha: o feed só entrega transações abaixo do xmin do snapshot atual,
+-- ou seja, já encerradas, e ordena por (tx_id, seq) para que uma transação lenta nunca fique para trás do token.
+create table if not exists client_changes (
+    seq         bigserial primary key,
+    tx_id       xid8        not null default pg_current_xact_id(),
+    client_id   uuid        not null,
+    change_type varchar(10) not null,
+    version     bigint      not null,
+    changed_at  timestamp   not null default now()
+);
+
+create index if not exists idx_client_changes_tx_seq on client_changes (tx_id, seq);
@@ -0,0 +1,4 @@
+-- client_changes também é o outbox: linhas com published_at nulo ainda não foram entregues pelo relay.
+alter table client_changes add column if not exists published_at timestamp;
+
+create index if not exists idx_client_changes_unpublished on client_changes (seq) where published_at is null;
@@ -0,0 +1,40 @@
+-- Bancos criados antes pelo ddl-auto=update mantêm as constraints com os nomes gerados pelo Hibernate (UK..., FK...),
+-- pois o "create table if not exists" da V1 não faz nada neles. O adapter identifica CPF e telefone duplicados pelo
+-- nome da constraint, então as existentes são renomeadas para os nomes da V1 e as ausentes são criadas.
+do $$
+declare
+    target       record;
+    current_name name;
+begin
+    for target in
+        select *
+          from (values ('uk_clients_cpf', 'u', 'cpf'),
+                       ('uk_clients_phone', 'u', 'phone'),
+                       ('uk_clients_address_id', 'u', 'address_id'),
+                       ('fk_clients_address', 'f', 'address_id')) as t (constraint_name, constraint_type, column_name)
+    loop
+        select c.conname
+          into current_name
+          from pg_constraint c
+          join pg_attribute a on a.attrelid = c.conrelid and a.attnum = c.conkey[1]
+         where c.conrelid = 'clients'::regclass
+           and c.contype = target.constraint_type::"char"
+           and cardinality(c.conkey) = 1
+           and a.attname = target.column_name
+         order by c.conname = target.constraint_name desc, c.conname
+         limit 1;
+
+        if current_name is null then
+            if target.constraint_type = 'u' then
+                execute format('alter table clients add constraint %I unique (%I)',
+                               target.constraint_name, target.column_name);
+            else
+                execute format('alter table clients add constraint %I foreign key (%I) references addresses (id)',
+                               target.constraint_name, target.column_name);
+            end if;
+        elsif current_name <> target.constraint_name then
+            execute format('alter table clients rename constraint %I to %I', current_name, target.constraint_name);
+        end if;
+    end loop;
+end
+$$;
@@ -1,17 +1,34 @@
 package com.nithack.clientService.application.service;
 
 
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.dto.ClientView;
 import com.nithack.clientService.application.exception.ClientAlreadyExistsException;
 import com.nithack.clientService.application.exception.ClientNotFoundException;
+import com.nithack.clientService.application.exception.ClientVersionMismatchException;
+import com.nithack.clientService.application.exception.InvalidCursorException;
+import com.nithack.clientService.application.mapper.ClientChangeCursorMapper;
+import com.nithack.clientService.application.mapper.ClientCursorMapper;
 import com.nithack.clientService.application.mapper.ClientMapper;
 import com.nithack.clientService.application.port.ClientDataServicePort;
 import com.nithack.clientService.infra.database.service.ClientDataServiceAdapter;
 import com.nithack.clientService.application.services.ClientServiceAdapter;
 import com.nithack.clientService.domain.entity.AddressEntity;
+import com.nithack.clientService.domain.entity.ClientBatchItem;
+import com.nithack.clientService.domain.entity.ClientBatchStatus;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientChangeType;
+import com.nithack.clientService.domain.entity.ClientCursor;
 import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
 import com.nithack.clientService.infra.database.model.AddressModel;
+import com.nithack.clientService.infra.database.model.ClientChangeRow;
 import com.nithack.clientService.infra.database.model.ClientModel;
+import com.nithack.clientService.infra.database.model.ClientRow;
 import com.nithack.clientService.infra.database.repository.ClientRepository;
+import jakarta.persistence.EntityManager;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,26 +36,39 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;@ExtendWith(MockitoExtension.class)
 class ClientServiceTest {
 
     @Mock
     private ClientRepository clientRepository;
+    @Mock
+    private EntityManager entityManager;
     private ClientServiceAdapter clientService;
 
     @BeforeEach
     void setUp() {
-        ClientDataServicePort clientDataService = new ClientDataServiceAdapter(clientRepository);
+        ClientDataServicePort clientDataService = new ClientDataServiceAdapter(clientRepository, entityManager);
         clientService = new ClientServiceAdapter(clientDataService);
     }
 
@@ -49,12 +79,28 @@ class ClientServiceTest {
         ClientEntity clientEntity = getClientEntity(idTest);
         ClientModel clientModel = getClientModel(idTest, clientEntity.getName(), clientEntity.getCpf());
 
-        when(clientRepository.save(any(ClientModel.class))).thenReturn(clientModel);
+        when(clientRepository.saveAndFlush(any(ClientModel.class))).thenReturn(clientModel);
 
         ClientEntity createdClient = clientService.create(clientEntity);
         assertThat(createdClient).isNotNull();
         assertThat(createdClient.getName()).isEqualTo(clientEntity.getName());
-        verify(clientRepository, times(1)).save(any(ClientModel.class));
+        verify(clientRepository, times(1)).saveAndFlush(any(ClientModel.class));
+        verify(clientRepository, times(1)).recordCreated(List.of(idTest));
+    }
+
+    @Test
+    @DisplayName("Should insert new client as a new entity with UUIDv7 ids")
+    void createClient_ShouldSaveNewEntityWithUuidV7Ids() {
+        ClientEntity clientEntity = getClientEntity(null);
+        ArgumentCaptor<ClientModel> captor = ArgumentCaptor.forClass(ClientModel.class);
+        when(clientRepository.saveAndFlush(captor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        clientService.create(clientEntity);
+
+        ClientModel savedModel = captor.getValue();
+        assertThat(savedModel.isNew()).isTrue();
+        assertThat(savedModel.getId().version()).isEqualTo(7);
+        assertThat(savedModel.getAddress().getId().version()).isEqualTo(7);
     }
 
     @Test
@@ -64,25 +110,107 @@ class ClientServiceTest {
         when(clientRepository.existsByCpf(clientEntity.getCpf())).thenReturn(true);
 
         assertThrows(ClientAlreadyExistsException.class, () -> clientService.create(clientEntity));
-        verify(clientRepository, never()).save(any(ClientModel.class));
+        verify(clientRepository, never()).saveAndFlush(any(ClientModel.class));
+    }
+
+    @Test
+    @DisplayName("Should map CPF unique constraint violation to ClientAlreadyExistsException")
+    void createClient_ShouldThrowException_WhenCpfConstraintIsViolated() {
+        ClientEntity clientEntity = getClientEntity(UUID.randomUUID());
+        when(clientRepository.saveAndFlush(any(ClientModel.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", null, ClientModel.CPF_CONSTRAINT)));
+
+        assertThrows(ClientAlreadyExistsException.class, () -> clientService.create(clientEntity));
     }
 
     @Test
-    @DisplayName("Should update existing client and return updated data")
+    @DisplayName("Should create batch reporting existing and repeated CPFs as conflicts")
+    void createAll_ShouldReportConflicts_WhenCpfExistsOrIsRepeated() {
+        ClientEntity newClient = getClientEntity(null);
+        newClient.setCpf("11111111111");
+        ClientEntity existingClient = getClientEntity(null);
+        existingClient.setCpf("22222222222");
+        ClientEntity repeatedClient = getClientEntity(null);
+        repeatedClient.setCpf("11111111111");
+
+        when(clientRepository.findExistingCpfs(any())).thenReturn(List.of("22222222222"));
+
+        List<ClientBatchItem> results = clientService.createAll(List.of(newClient, existingClient, repeatedClient));
+        assertThat(results).extracting(ClientBatchItem::getStatus)
+                .containsExactly(ClientBatchStatus.CREATED, ClientBatchStatus.CONFLICT, ClientBatchStatus.CONFLICT);
+        assertThat(results.get(0).getClient().getId()).isNotNull();
+        assertThat(results.get(1).getMessage()).isEqualTo("Client already exists with CPF: 22222222222");
+        verify(clientRepository, times(1)).findExistingCpfs(any());
+        verify(entityManager, times(1)).persist(any(ClientModel.class));
+        verify(clientRepository, never()).existsByCpf(any());
+    }
+
+    @Test
+    @DisplayName("Should report a phone repeated within the batch as a conflict")
+    void createAll_ShouldReportConflict_WhenPhoneIsRepeated() {
+        ClientEntity firstClient = getClientEntity(null);
+        firstClient.setCpf("11111111111");
+        ClientEntity repeatedPhoneClient = getClientEntity(null);
+        repeatedPhoneClient.setCpf("22222222222");
+
+        List<ClientBatchItem> results = clientService.createAll(List.of(firstClient, repeatedPhoneClient));
+        assertThat(results).extracting(ClientBatchItem::getStatus)
+                .containsExactly(ClientBatchStatus.CREATED, ClientBatchStatus.CONFLICT);
+        assertThat(results.get(1).getMessage()).isEqualTo("Client already exists with phone: " + firstClient.getPhone());
+        verify(entityManager, times(1)).persist(any(ClientModel.class));
+    }
+
+    @Test
+    @DisplayName("Should split a rejected batch and report only the violating client as a conflict")
+    void createAll_ShouldSplitBatch_WhenUniqueConstraintIsViolated() {
+        ClientEntity takenPhoneClient = getClientEntity(null);
+        takenPhoneClient.setCpf("11111111111");
+        ClientEntity secondClient = getClientEntity(null);
+        secondClient.setCpf("22222222222");
+        secondClient.setPhone("222222222");
+        ClientEntity thirdClient = getClientEntity(null);
+        thirdClient.setCpf("33333333333");
+        thirdClient.setPhone("333333333");
+        ConstraintViolationException phoneViolation =
+                new ConstraintViolationException("duplicate", null, ClientModel.PHONE_CONSTRAINT);
+        doThrow(phoneViolation).doThrow(phoneViolation).doNothing().when(entityManager).flush();
+        when(clientRepository.saveAndFlush(any(ClientModel.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate", phoneViolation));
+
+        List<ClientBatchItem> results = clientService.createAll(List.of(takenPhoneClient, secondClient, thirdClient));
+        assertThat(results).extracting(ClientBatchItem::getStatus)
+                .containsExactly(ClientBatchStatus.CONFLICT, ClientBatchStatus.CREATED, ClientBatchStatus.CREATED);
+        assertThat(results.get(0).getMessage()).isEqualTo("Client already exists with phone: " + takenPhoneClient.getPhone());
+        assertThat(results.get(2).getClient().getCpf()).isEqualTo("33333333333");
+    }
+
+    @Test
+    @DisplayName("Should not insert anything when every client in the batch conflicts")
+    void createAll_ShouldSkipInsert_WhenAllClientsConflict() {
+        ClientEntity clientEntity = getClientEntity(null);
+        when(clientRepository.findExistingCpfs(any())).thenReturn(List.of(clientEntity.getCpf()));
+
+        List<ClientBatchItem> results = clientService.createAll(List.of(clientEntity));
+        assertThat(results).extracting(ClientBatchItem::getStatus).containsExactly(ClientBatchStatus.CONFLICT);
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    @DisplayName("Should update existing client in a single statement without reading it first")
     void updateClient_ShouldUpdateAndReturnUpdatedClient_WhenClientExists() {
         UUID clientId = UUID.randomUUID();
         ClientEntity clientEntity = getClientEntity(clientId);
-        ClientModel clientModelSaved = ClientMapper.toModel(clientEntity);
-
-        ClientModel clientModel = getClientModel(clientId, "Updated Name", clientModelSaved.getCpf());
+        ClientModel clientModel = getClientModel(clientId, "Updated Name", clientEntity.getCpf());
 
-        when(clientRepository.findById(clientId)).thenReturn(Optional.ofNullable(clientModelSaved));
-        when(clientRepository.save(any(ClientModel.class))).thenReturn(clientModel);
+        when(clientRepository.updateReturning(eq(clientId), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(Optional.of(getClientRow(clientModel)));
 
         ClientEntity updatedClient = clientService.update(clientEntity);
         assertThat(updatedClient).isNotNull();
         assertThat(updatedClient.getName()).isEqualTo("Updated Name");
-        verify(clientRepository, times(1)).save(any(ClientModel.class));
+        assertThat(updatedClient.getCreatedAt()).isEqualTo(clientModel.getCreatedAt());
+        verify(clientRepository, never()).findById(any());
+        verify(clientRepository, never()).saveAndFlush(any(ClientModel.class));
     }
 
     @Test
@@ -91,98 +219,250 @@ class ClientServiceTest {
         UUID clientId = UUID.randomUUID();
         ClientEntity clientEntity = getClientEntity(clientId);
 
-        when(clientRepository.findById(clientId)).thenReturn(Optional.empty());
+        when(clientRepository.updateReturning(eq(clientId), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(Optional.empty());
 
         assertThrows(ClientNotFoundException.class, () -> clientService.update(clientEntity));
-        verify(clientRepository, never()).save(any(ClientModel.class));
     }
 
     @Test
-    @DisplayName("Should delete existing client")
-    void deleteClient_ShouldDeleteClient_WhenClientExists() {
+    @DisplayName("Should throw version mismatch when updating a client that changed since the expected version")
+    void updateClient_ShouldThrowVersionMismatch_WhenExpectedVersionIsStale() {
         UUID clientId = UUID.randomUUID();
+        ClientEntity clientEntity = getClientEntity(clientId);
+        clientEntity.setVersion(3L);
+
+        when(clientRepository.updateReturning(eq(clientId), any(), any(), any(), any(), any(), any(), any(), any(), any(), eq(3L)))
+                .thenReturn(Optional.empty());
         when(clientRepository.existsById(clientId)).thenReturn(true);
 
-        clientService.delete(clientId);
+        assertThrows(ClientVersionMismatchException.class, () -> clientService.update(clientEntity));
+    }
+
+    @Test
+    @DisplayName("Should map CPF unique constraint violation on update to ClientAlreadyExistsException")
+    void updateClient_ShouldThrowException_WhenCpfConstraintIsViolated() {
+        UUID clientId = UUID.randomUUID();
+        ClientEntity clientEntity = getClientEntity(clientId);
+        when(clientRepository.updateReturning(eq(clientId), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate",
+                        new ConstraintViolationException("duplicate", null, ClientModel.CPF_CONSTRAINT)));
+
+        assertThrows(ClientAlreadyExistsException.class, () -> clientService.update(clientEntity));
+    }
+
+    @Test
+    @DisplayName("Should delete existing client with a single statement")
+    void deleteClient_ShouldDeleteClient_WhenClientExists() {
+        UUID clientId = UUID.randomUUID();
+        when(clientRepository.deleteReturningCount(clientId, null)).thenReturn(1);
 
-        verify(clientRepository, times(1)).deleteById(clientId);
+        clientService.delete(clientId, null);
+
+        verify(clientRepository, never()).existsById(clientId);
+        verify(clientRepository, times(1)).deleteReturningCount(clientId, null);
+    }
+
+    @Test
+    @DisplayName("Should throw version mismatch when deleting a client that changed since the expected version")
+    void deleteClient_ShouldThrowVersionMismatch_WhenExpectedVersionIsStale() {
+        UUID clientId = UUID.randomUUID();
+        when(clientRepository.deleteReturningCount(clientId, 3L)).thenReturn(0);
+        when(clientRepository.existsById(clientId)).thenReturn(true);
+
+        assertThrows(ClientVersionMismatchException.class, () -> clientService.delete(clientId, 3L));
     }
 
     @Test
     @DisplayName("Should throw exception when trying to delete non-existing client")
     void deleteClient_ShouldThrowException_WhenClientDoesNotExist() {
         UUID clientId = UUID.randomUUID();
-        when(clientRepository.existsById(clientId)).thenReturn(false);
+        when(clientRepository.deleteReturningCount(clientId, null)).thenReturn(0);
 
-        assertThrows(ClientNotFoundException.class, () -> clientService.delete(clientId));
-        verify(clientRepository, never()).deleteById(clientId);
+        assertThrows(ClientNotFoundException.class, () -> clientService.delete(clientId, null));
     }
     @Test
-    @DisplayName("Should return all clients")
-    void findAll_ShouldReturnListOfClients_WhenClientsExist() {
-        UUID clientId1 = UUID.randomUUID();
-        UUID clientId2 = UUID.randomUUID();
-        ClientModel clientModel1 = getClientModel(clientId1, "Test Name 1", "11111111111");
-        ClientModel clientModel2 = getClientModel(clientId2, "Test Name 2", "22222222222");
+    @DisplayName("Should return first page of clients with next cursor")
+    void findPage_ShouldReturnPageWithNextCursor_WhenMoreClientsExist() {
+        ClientView clientView1 = getClientView(UUID.randomUUID(), "Test Name 1");
+        ClientView clientView2 = getClientView(UUID.randomUUID(), "Test Name 2");
 
-        when(clientRepository.findAll()).thenReturn(List.of(clientModel1, clientModel2));
+        when(clientRepository.findFirstViewPage(Limit.of(2))).thenReturn(List.of(clientView1, clientView2));
 
-        List<ClientEntity> clients = clientService.findAll();
-        assertThat(clients).hasSize(2);
-        verify(clientRepository, times(1)).findAll();
+        ClientPage<ClientView> page = clientService.findPage(null, 1);
+        assertThat(page.getClients()).hasSize(1);
+        assertThat(page.getNext()).isEqualTo(new ClientCursor(clientView1.getCreatedAt(), clientView1.getId()));
+        verify(clientRepository, times(1)).findFirstViewPage(Limit.of(2));
     }
 
     @Test
-    @DisplayName("Should return empty list when no clients exist")
-    void findAll_ShouldReturnEmptyList_WhenNoClientsExist() {
-        when(clientRepository.findAll()).thenReturn(List.of());
+    @DisplayName("Should continue after the cursor and return no next cursor on last page")
+    void findPage_ShouldReturnLastPage_WhenCursorIsGiven() {
+        ClientCursor cursor = new ClientCursor(LocalDate.now(), UUID.randomUUID());
+        ClientView clientView = getClientView(UUID.randomUUID(), "Test Name");
+
+        when(clientRepository.findViewPageAfter(cursor.getCreatedAt(), cursor.getId(), Limit.of(11)))
+                .thenReturn(List.of(clientView));
 
-        List<ClientEntity> clients = clientService.findAll();
-        assertThat(clients).isEmpty();
-        verify(clientRepository, times(1)).findAll();
+        ClientPage<ClientView> page = clientService.findPage(ClientCursorMapper.encode(cursor), 10);
+        assertThat(page.getClients()).hasSize(1);
+        assertThat(page.getNext()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return empty page when no clients exist")
+    void findPage_ShouldReturnEmptyPage_WhenNoClientsExist() {
+        when(clientRepository.findFirstViewPage(any(Limit.class))).thenReturn(List.of());
+
+        ClientPage<ClientView> page = clientService.findPage(null, null);
+        assertThat(page.getClients()).isEmpty();
+        assertThat(page.getNext()).isNull();
+        verify(clientRepository, times(1)).findFirstViewPage(Limit.of(51));
+    }
+
+    @Test
+    @DisplayName("Should cap page size at the maximum allowed")
+    void findPage_ShouldCapPageSize_WhenSizeExceedsMaximum() {
+        when(clientRepository.findFirstViewPage(any(Limit.class))).thenReturn(List.of());
+
+        clientService.findPage(null, 100_000);
+        verify(clientRepository, times(1)).findFirstViewPage(Limit.of(501));
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidCursorException when cursor is malformed")
+    void findPage_ShouldThrowInvalidCursorException_WhenCursorIsMalformed() {
+        assertThrows(InvalidCursorException.class, () -> clientService.findPage("not-a-cursor", 10));
+        verify(clientRepository, never()).findViewPageAfter(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return changes after the since token and continue from the last one delivered")
+    void findChanges_ShouldReturnChangesWithNextPosition_WhenMoreChangesExist() {
+        ClientChangeCursor since = new ClientChangeCursor(750, 10);
+        UUID clientId = UUID.randomUUID();
+        ClientModel clientModel = getClientModel(clientId, "Test Name", "12341234512");
+
+        when(clientRepository.findChangesAfter(750, 10, 3)).thenReturn(List.of(
+                getClientChangeRow(751, 11, ClientChangeType.CREATED, clientModel),
+                getClientChangeRow(752, 12, ClientChangeType.DELETED, null),
+                getClientChangeRow(753, 13, ClientChangeType.CREATED, clientModel)));
+
+        ClientChangePage<ClientChangeView> page = clientService.findChanges(ClientChangeCursorMapper.encode(since), 2);
+        assertThat(page.getChanges()).extracting(ClientChangeView::getType)
+                .containsExactly(ClientChangeType.CREATED, ClientChangeType.DELETED);
+        assertThat(page.getChanges().get(0).getClient().getName()).isEqualTo("Test Name");
+        assertThat(page.getChanges().get(1).getClient()).isNull();
+        assertThat(page.getNext()).isEqualTo(new ClientChangeCursor(752, 12));
+        assertThat(page.isHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should start from the first change and keep the position when there are no new changes")
+    void findChanges_ShouldKeepPosition_WhenNoChangesExist() {
+        when(clientRepository.findChangesAfter(0, 0, 51)).thenReturn(List.of());
+
+        ClientChangePage<ClientChangeView> page = clientService.findChanges(null, null);
+        assertThat(page.getChanges()).isEmpty();
+        assertThat(page.getNext()).isEqualTo(new ClientChangeCursor(0, 0));
+        assertThat(page.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidCursorException when change token is malformed")
+    void findChanges_ShouldThrowInvalidCursorException_WhenTokenIsMalformed() {
+        assertThrows(InvalidCursorException.class, () -> clientService.findChanges("not-a-token", 10));
+        verify(clientRepository, never()).findChangesAfter(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should return matching clients with next cursor when searching")
+    void search_ShouldReturnPageWithNextCursor_WhenMoreClientsMatch() {
+        ClientView clientView1 = getClientView(UUID.randomUUID(), "Test Name 1");
+        ClientView clientView2 = getClientView(UUID.randomUUID(), "Test Name 2");
+        ClientQuery query = ClientQuery.builder().namePrefix("Test").state("SP").build();
+
+        when(clientRepository.searchViews(query, null, 2)).thenReturn(List.of(clientView1, clientView2));
+
+        ClientPage<ClientView> page = clientService.search(query, null, 1);
+        assertThat(page.getClients()).hasSize(1);
+        assertThat(page.getNext()).isEqualTo(new ClientCursor(clientView1.getCreatedAt(), clientView1.getId()));
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidCursorException when search cursor is malformed")
+    void search_ShouldThrowInvalidCursorException_WhenCursorIsMalformed() {
+        assertThrows(InvalidCursorException.class, () -> clientService.search(new ClientQuery(), "not-a-cursor", 10));
+        verify(clientRepository, never()).searchViews(any(), any(), anyInt());
     }
 
     @Test
     @DisplayName("Should return client by ID")
     void findById_ShouldReturnClient_WhenClientExists() {
         UUID clientId = UUID.randomUUID();
-        ClientModel clientModel = getClientModel(clientId, "Test Name", "12341234512");
-        when(clientRepository.findById(clientId)).thenReturn(Optional.of(clientModel));
+        ClientView clientView = getClientView(clientId, "Test Name");
+        when(clientRepository.findViewById(clientId)).thenReturn(Optional.of(clientView));
 
-        Optional<ClientEntity> client = clientService.findById(clientId.toString());
+        Optional<ClientView> client = clientService.findById(clientId.toString());
         assertThat(client).isPresent();
         assertThat(client.get().getId()).isEqualTo(clientId);
-        verify(clientRepository, times(1)).findById(clientId);
+        verify(clientRepository, times(1)).findViewById(clientId);
     }
 
     @Test
     @DisplayName("Should throw ClientNotFoundException when client does not exist")
     void findById_ShouldThrowClientNotFoundException_WhenClientDoesNotExist() {
         UUID clientId = UUID.randomUUID();
-        when(clientRepository.findById(clientId)).thenReturn(Optional.empty());
+        when(clientRepository.findViewById(clientId)).thenReturn(Optional.empty());
 
-        Optional<ClientEntity> client = clientService.findById(clientId.toString());
+        Optional<ClientView> client = clientService.findById(clientId.toString());
         assertThat(client).isEmpty();
-        verify(clientRepository, times(1)).findById(clientId);
+        verify(clientRepository, times(1)).findViewById(clientId);
+    }
+
+    @Test
+    @DisplayName("Should fetch repeated ids once in a single query and key results by id in request order")
+    void findAllByIds_ShouldQueryOnceWithUniqueIds_WhenIdsRepeat() {
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        when(clientRepository.findRowsByIds(any())).thenReturn(List.of(
+                getClientRow(getClientModel(secondId, "Second", "22222222222")),
+                getClientRow(getClientModel(firstId, "First", "11111111111"))));
+
+        Map<UUID, ClientView> clients = clientService.findAllByIds(List.of(firstId, missingId, secondId, firstId));
+
+        assertThat(clients.keySet()).containsExactly(firstId, secondId);
+        assertThat(clients.get(secondId).getName()).isEqualTo("Second");
+        ArgumentCaptor<UUID[]> captor = ArgumentCaptor.forClass(UUID[].class);
+        verify(clientRepository, times(1)).findRowsByIds(captor.capture());
+        assertThat(captor.getValue()).containsExactly(firstId, missingId, secondId);
+    }
+
+    @Test
+    @DisplayName("Should not query the database for an empty id list")
+    void findAllByIds_ShouldReturnEmpty_WhenNoIds() {
+        assertThat(clientService.findAllByIds(List.of())).isEmpty();
+        verify(clientRepository, never()).findRowsByIds(any());
     }
 
     @Test
-    @DisplayName("Should throw exception when error occurs during findAll")
-    void findAll_ShouldThrowException_WhenErrorOccurs() {
-        when(clientRepository.findAll()).thenThrow(new RuntimeException("Database error"));
+    @DisplayName("Should throw exception when error occurs during findPage")
+    void findPage_ShouldThrowException_WhenErrorOccurs() {
+        when(clientRepository.findFirstViewPage(any(Limit.class))).thenThrow(new RuntimeException("Database error"));
 
-        assertThrows(RuntimeException.class, () -> clientService.findAll());
-        verify(clientRepository, times(1)).findAll();
+        assertThrows(RuntimeException.class, () -> clientService.findPage(null, null));
+        verify(clientRepository, times(1)).findFirstViewPage(any(Limit.class));
     }
 
     @Test
     @DisplayName("Should throw exception when error occurs during findById")
     void findById_ShouldThrowException_WhenErrorOccurs() {
         UUID clientId = UUID.randomUUID();
-        when(clientRepository.findById(clientId)).thenThrow(new RuntimeException("Database error"));
+        when(clientRepository.findViewById(clientId)).thenThrow(new RuntimeException("Database error"));
 
         assertThrows(RuntimeException.class, () -> clientService.findById(clientId.toString()));
-        verify(clientRepository, times(1)).findById(clientId);
+        verify(clientRepository, times(1)).findViewById(clientId);
     }
 
 
@@ -221,5 +501,41 @@ class ClientServiceTest {
                 .updatedAt(LocalDate.now())
                 .build();
     }
-}
 
+    private static ClientView getClientView(UUID id, String name) {
+        return new ClientView(id, name, "12341234512", "112313321", LocalDate.now(),
+                "Campinas", "SP", "Rua 13 de Abril", "13020020", 0L, LocalDate.now());
+    }
+
+    private ClientChangeRow getClientChangeRow(long txId, long seq, ClientChangeType type, ClientModel clientModel) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("txId", txId);
+        row.put("seq", seq);
+        row.put("changeType", type.name());
+        row.put("clientId", clientModel == null ? UUID.randomUUID() : clientModel.getId());
+        row.put("version", 0L);
+        if (clientModel != null) {
+            row.put("name", clientModel.getName());
+            row.put("cpf", clientModel.getCpf());
+            row.put("city", clientModel.getAddress().getCity());
+        }
+        return new SpelAwareProxyProjectionFactory().createProjection(ClientChangeRow.class, row);
+    }
+
+    private ClientRow getClientRow(ClientModel clientModel) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", clientModel.getId());
+        row.put("cpf", clientModel.getCpf());
+        row.put("name", clientModel.getName());
+        row.put("dateOfBirth", clientModel.getDateOfBirth());
+        row.put("phone", clientModel.getPhone());
+        row.put("createdAt", clientModel.getCreatedAt());
+        row.put("updatedAt", clientModel.getUpdatedAt());
+        row.put("addressId", clientModel.getAddress().getId());
+        row.put("street", clientModel.getAddress().getStreet());
+        row.put("city", clientModel.getAddress().getCity());
+        row.put("state", clientModel.getAddress().getState());
+        row.put("postalCode", clientModel.getAddress().getPostalCode());
+        return new SpelAwareProxyProjectionFactory().createProjection(ClientRow.class, row);
+    }
+}
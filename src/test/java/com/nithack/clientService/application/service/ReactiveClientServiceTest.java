@@ -0,0 +1,211 @@
+package com.nithack.clientService.application.service;
+
+import com.nithack.clientService.application.dto.ClientChangeView;
+import com.nithack.clientService.application.exception.ClientAlreadyExistsException;
+import com.nithack.clientService.application.exception.ClientNotFoundException;
+import com.nithack.clientService.application.exception.InvalidCursorException;
+import com.nithack.clientService.application.mapper.ClientChangeCursorMapper;
+import com.nithack.clientService.application.mapper.ClientCursorMapper;
+import com.nithack.clientService.application.port.ReactiveClientDataServicePort;
+import com.nithack.clientService.application.services.ReactiveClientServiceAdapter;
+import com.nithack.clientService.domain.entity.AddressEntity;
+import com.nithack.clientService.domain.entity.ClientBatchStatus;
+import com.nithack.clientService.domain.entity.ClientChangeCursor;
+import com.nithack.clientService.domain.entity.ClientChangePage;
+import com.nithack.clientService.domain.entity.ClientCursor;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import com.nithack.clientService.domain.entity.ClientPage;
+import com.nithack.clientService.domain.entity.ClientQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveClientServiceTest {
+
+    @Mock
+    private ReactiveClientDataServicePort clientDataService;
+    private ReactiveClientServiceAdapter clientService;
+
+    @BeforeEach
+    void setUp() {
+        clientService = new ReactiveClientServiceAdapter(clientDataService);
+    }
+
+    @Test
+    @DisplayName("Should assign id and dates when creating a client")
+    void createClient_ShouldAssignIdAndDates() {
+        when(clientDataService.insert(any(ClientEntity.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(clientService.create(getClientEntity("12345678901")))
+                .assertNext(created -> {
+                    assertThat(created.getId()).isNotNull();
+                    assertThat(created.getCreatedAt()).isEqualTo(LocalDate.now());
+                    assertThat(created.getUpdatedAt()).isEqualTo(LocalDate.now());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should propagate CPF conflict as an error signal")
+    void createClient_ShouldError_WhenCpfAlreadyExists() {
+        when(clientDataService.insert(any(ClientEntity.class)))
+                .thenReturn(Mono.error(new ClientAlreadyExistsException("12345678901")));
+
+        StepVerifier.create(clientService.create(getClientEntity("12345678901")))
+                .expectError(ClientAlreadyExistsException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should signal ClientNotFoundException when updating a missing client")
+    void updateClient_ShouldError_WhenClientNotFound() {
+        when(clientDataService.updateReturning(any(ClientEntity.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(clientService.update(getClientEntity("12345678901")))
+                .expectError(ClientNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should complete when deleting an existing client")
+    void deleteClient_ShouldComplete_WhenClientExists() {
+        UUID id = UUID.randomUUID();
+        when(clientDataService.deleteReturningCount(id)).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(clientService.delete(id)).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should signal ClientNotFoundException when deleting a missing client")
+    void deleteClient_ShouldError_WhenClientDoesNotExist() {
+        UUID id = UUID.randomUUID();
+        when(clientDataService.deleteReturningCount(id)).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(clientService.delete(id))
+                .expectError(ClientNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should decode cursor and cap page size")
+    void findPage_ShouldDecodeCursorAndCapSize() {
+        ClientCursor cursor = new ClientCursor(LocalDate.now(), UUID.randomUUID());
+        ClientPage<ClientEntity> page = new ClientPage<>(List.of(), null);
+        when(clientDataService.findPage(eq(cursor), eq(500))).thenReturn(Mono.just(page));
+
+        StepVerifier.create(clientService.findPage(ClientCursorMapper.encode(cursor), 10_000))
+                .expectNext(page)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should signal InvalidCursorException when cursor is malformed")
+    void findPage_ShouldError_WhenCursorIsMalformed() {
+        StepVerifier.create(clientService.findPage("not-a-cursor", null))
+                .expectError(InvalidCursorException.class)
+                .verify();
+        verify(clientDataService, never()).findPage(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should pass query, decoded cursor and default size when searching")
+    void search_ShouldDecodeCursorAndUseDefaultSize() {
+        ClientCursor cursor = new ClientCursor(LocalDate.now(), UUID.randomUUID());
+        ClientQuery query = ClientQuery.builder().city("São Paulo").build();
+        ClientPage<ClientEntity> page = new ClientPage<>(List.of(), null);
+        when(clientDataService.search(eq(query), eq(cursor), eq(50))).thenReturn(Mono.just(page));
+
+        StepVerifier.create(clientService.search(query, ClientCursorMapper.encode(cursor), null))
+                .expectNext(page)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should decode change token and cap page size")
+    void findChanges_ShouldDecodeTokenAndCapSize() {
+        ClientChangeCursor since = new ClientChangeCursor(750, 10);
+        ClientChangePage<ClientChangeView> page = new ClientChangePage<>(List.of(), since, false);
+        when(clientDataService.findChanges(eq(since), eq(500))).thenReturn(Mono.just(page));
+
+        StepVerifier.create(clientService.findChanges(ClientChangeCursorMapper.encode(since), 10_000))
+                .expectNext(page)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should signal InvalidCursorException when change token is malformed")
+    void findChanges_ShouldError_WhenTokenIsMalformed() {
+        StepVerifier.create(clientService.findChanges("not-a-token", null))
+                .expectError(InvalidCursorException.class)
+                .verify();
+        verify(clientDataService, never()).findChanges(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should look up unique ids once and keep the requested order, skipping missing clients")
+    void findAllByIds_ShouldDeduplicateAndKeepOrder() {
+        ClientEntity first = getClientEntity("11111111111");
+        ClientEntity second = getClientEntity("22222222222");
+        UUID missing = UUID.randomUUID();
+        when(clientDataService.findAllByIds(Set.of(second.getId(), missing, first.getId())))
+                .thenReturn(Mono.just(Map.of(first.getId(), first, second.getId(), second)));
+
+        StepVerifier.create(clientService.findAllByIds(List.of(second.getId(), missing, first.getId(), second.getId())))
+                .assertNext(clients -> assertThat(clients).containsExactly(
+                        Map.entry(second.getId(), second), Map.entry(first.getId(), first)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should create batch reporting existing and repeated CPFs as conflicts")
+    void createAll_ShouldReportConflicts_WhenCpfExistsOrIsRepeated() {
+        List<ClientEntity> clients = List.of(
+                getClientEntity("11111111111"),
+                getClientEntity("22222222222"),
+                getClientEntity("11111111111"));
+        when(clientDataService.findExistingCpfs(any())).thenReturn(Mono.just(Set.of("22222222222")));
+        when(clientDataService.insertAll(anyList())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(clientService.createAll(clients))
+                .assertNext(results -> assertThat(results).extracting("status").containsExactly(
+                        ClientBatchStatus.CREATED, ClientBatchStatus.CONFLICT, ClientBatchStatus.CONFLICT))
+                .verifyComplete();
+    }
+
+    private ClientEntity getClientEntity(String cpf) {
+        return ClientEntity.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .cpf(cpf)
+                .phone("11999999999")
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .address(AddressEntity.builder()
+                        .street("Rua A")
+                        .city("São Paulo")
+                        .state("SP")
+                        .postalCode("01000-000")
+                        .build())
+                .build();
+    }
+}
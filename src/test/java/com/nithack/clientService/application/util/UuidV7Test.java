@@ -0,0 +1,32 @@
+package com.nithack.clientService.application.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Should generate RFC 9562 version 7 UUIDs carrying the timestamp")
+    void next_ShouldGenerateVersion7WithTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after);
+    }
+
+    @Test
+    @DisplayName("Should order UUIDs by creation millisecond")
+    void of_ShouldOrderByTimestamp() {
+        UUID earlier = UuidV7.of(1_700_000_000_000L);
+        UUID later = UuidV7.of(1_700_000_000_001L);
+
+        assertThat(Long.compareUnsigned(earlier.getMostSignificantBits(), later.getMostSignificantBits())).isNegative();
+    }
+}
@@ -0,0 +1,164 @@
+package com.nithack.clientService.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.mapper.ClientMapper;
+import com.nithack.clientService.application.port.ClientDataServicePort;
+import com.nithack.clientService.domain.entity.AddressEntity;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class CachingClientDataServiceAdapterTest {
+
+    @Mock
+    private ClientDataServicePort delegate;
+    private CachingClientDataServiceAdapter cachingClientDataService;
+
+    @BeforeEach
+    void setUp() {
+        cachingClientDataService = new CachingClientDataServiceAdapter(delegate, Caffeine.newBuilder().maximumSize(100).buildAsync());
+    }
+
+    @Test
+    @DisplayName("Should query the delegate only once for repeated reads")
+    void findById_ShouldHitDelegateOnce_WhenReadRepeatedly() {
+        UUID clientId = UUID.randomUUID();
+        when(delegate.findById(clientId)).thenReturn(Optional.of(getClientView(clientId)));
+
+        assertThat(cachingClientDataService.findById(clientId)).isPresent();
+        assertThat(cachingClientDataService.findById(clientId)).isPresent();
+        verify(delegate, times(1)).findById(clientId);
+    }
+
+    @Test
+    @DisplayName("Should cache missing ids and answer existsById from the cache")
+    void findById_ShouldCacheNegativeResult_WhenClientDoesNotExist() {
+        UUID clientId = UUID.randomUUID();
+        when(delegate.findById(clientId)).thenReturn(Optional.empty());
+
+        assertThat(cachingClientDataService.findById(clientId)).isEmpty();
+        assertThat(cachingClientDataService.findById(clientId)).isEmpty();
+        assertThat(cachingClientDataService.existsById(clientId)).isFalse();
+        verify(delegate, times(1)).findById(clientId);
+        verify(delegate, never()).existsById(clientId);
+    }
+
+    @Test
+    @DisplayName("Should not cache failed lookups")
+    void findById_ShouldRetryDelegate_WhenPreviousLookupFailed() {
+        UUID clientId = UUID.randomUUID();
+        when(delegate.findById(clientId))
+                .thenThrow(new IllegalStateException("Database error"))
+                .thenReturn(Optional.of(getClientView(clientId)));
+
+        assertThrows(IllegalStateException.class, () -> cachingClientDataService.findById(clientId));
+        assertThat(cachingClientDataService.findById(clientId)).isPresent();
+        verify(delegate, times(2)).findById(clientId);
+    }
+
+    @Test
+    @DisplayName("Should serve cached ids and load only the missing ones in one delegate call")
+    void findAllByIds_ShouldLoadOnlyMissingIds_WhenSomeAreCached() {
+        UUID cachedId = UUID.randomUUID();
+        UUID loadedId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        when(delegate.findById(cachedId)).thenReturn(Optional.of(getClientView(cachedId)));
+        when(delegate.findAllByIds(Set.of(loadedId, missingId))).thenReturn(Map.of(loadedId, getClientView(loadedId)));
+
+        cachingClientDataService.findById(cachedId);
+        Map<UUID, ClientView> clients = cachingClientDataService.findAllByIds(List.of(cachedId, loadedId, missingId));
+
+        assertThat(clients).containsOnlyKeys(cachedId, loadedId);
+        assertThat(cachingClientDataService.findById(loadedId)).isPresent();
+        assertThat(cachingClientDataService.findById(missingId)).isEmpty();
+        verify(delegate, times(1)).findAllByIds(Set.of(loadedId, missingId));
+        verify(delegate, never()).findById(loadedId);
+        verify(delegate, never()).findById(missingId);
+    }
+
+    @Test
+    @DisplayName("Should invalidate cached client on save")
+    void save_ShouldInvalidateCachedClient() {
+        UUID clientId = UUID.randomUUID();
+        ClientEntity clientEntity = getClientEntity(clientId);
+        when(delegate.findById(clientId)).thenReturn(Optional.of(ClientMapper.toView(clientEntity)));
+        when(delegate.save(clientEntity)).thenReturn(clientEntity);
+
+        cachingClientDataService.findById(clientId);
+        cachingClientDataService.save(clientEntity);
+        cachingClientDataService.findById(clientId);
+        verify(delegate, times(2)).findById(clientId);
+    }
+
+    @Test
+    @DisplayName("Should invalidate cached client on delete")
+    void deleteReturningCount_ShouldInvalidateCachedClient() {
+        UUID clientId = UUID.randomUUID();
+        when(delegate.findById(clientId)).thenReturn(Optional.of(getClientView(clientId)), Optional.empty());
+
+        cachingClientDataService.findById(clientId);
+        cachingClientDataService.deleteReturningCount(clientId, null);
+        assertThat(cachingClientDataService.findById(clientId)).isEmpty();
+        verify(delegate, times(1)).deleteReturningCount(clientId, null);
+        verify(delegate, times(2)).findById(clientId);
+    }
+
+    @Test
+    @DisplayName("Should invalidate again after the stale read window when reads may come from replicas")
+    void updateReturning_ShouldInvalidateAgain_AfterStaleReadWindow() throws InterruptedException {
+        UUID clientId = UUID.randomUUID();
+        ClientEntity clientEntity = getClientEntity(clientId);
+        when(delegate.findById(clientId)).thenReturn(Optional.empty(), Optional.of(ClientMapper.toView(clientEntity)));
+        cachingClientDataService = new CachingClientDataServiceAdapter(delegate, Caffeine.newBuilder().maximumSize(100).buildAsync(),
+                Duration.ofMillis(50));
+
+        cachingClientDataService.updateReturning(clientEntity);
+        assertThat(cachingClientDataService.findById(clientId)).isEmpty();
+        Thread.sleep(200);
+        assertThat(cachingClientDataService.findById(clientId)).isPresent();
+        verify(delegate, times(2)).findById(clientId);
+    }
+
+    private static ClientView getClientView(UUID id) {
+        return ClientMapper.toView(getClientEntity(id));
+    }
+
+    private static ClientEntity getClientEntity(UUID id) {
+        return ClientEntity.builder()
+                .id(id)
+                .name("Test Name")
+                .cpf("12341234512")
+                .phone("112313321")
+                .dateOfBirth(LocalDate.now())
+                .address(AddressEntity.builder()
+                        .id(UUID.randomUUID())
+                        .city("Campinas")
+                        .state("SP")
+                        .street("Rua 13 de Abril")
+                        .postalCode("13020020")
+                        .build())
+                .createdAt(LocalDate.now())
+                .updatedAt(LocalDate.now())
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.nithack.clientService.infra.cache;
+
+import com.nithack.clientService.application.port.ClientDataServicePort;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@ExtendWith(MockitoExtension.class)
+class CpfIndexClientDataServiceAdapterTest {
+
+    @Mock
+    private ClientDataServicePort delegate;
+    private CpfIndex cpfIndex;
+    private CpfIndexClientDataServiceAdapter cpfIndexClientDataService;
+
+    @BeforeEach
+    void setUp() {
+        cpfIndex = new CpfIndex(1000, 0.01);
+        cpfIndexClientDataService = new CpfIndexClientDataServiceAdapter(delegate, cpfIndex);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database while the index is not loaded")
+    void existsByCpf_ShouldQueryDelegate_WhenIndexIsNotReady() {
+        when(delegate.existsByCpf("12345678901")).thenReturn(true);
+
+        assertThat(cpfIndex.isReady()).isFalse();
+        assertThat(cpfIndexClientDataService.existsByCpf("12345678901")).isTrue();
+        verify(delegate, times(1)).existsByCpf("12345678901");
+    }
+
+    @Test
+    @DisplayName("Should skip the database for CPFs the index has never seen")
+    void existsByCpf_ShouldSkipDelegate_WhenCpfIsDefinitelyAbsent() {
+        cpfIndex.rebuild(1, consumer -> Stream.of("11111111111").forEach(consumer));
+
+        assertThat(cpfIndexClientDataService.existsByCpf("22222222222")).isFalse();
+        verify(delegate, never()).existsByCpf(any());
+    }
+
+    @Test
+    @DisplayName("Should check the database for CPFs that might be present")
+    void existsByCpf_ShouldQueryDelegate_WhenCpfMightBePresent() {
+        cpfIndex.rebuild(1, consumer -> Stream.of("11111111111").forEach(consumer));
+        when(delegate.existsByCpf("11111111111")).thenReturn(true);
+
+        assertThat(cpfIndexClientDataService.existsByCpf("11111111111")).isTrue();
+        verify(delegate, times(1)).existsByCpf("11111111111");
+    }
+
+    @Test
+    @DisplayName("Should add saved CPFs to the index")
+    void save_ShouldAddCpfToIndex() {
+        cpfIndex.rebuild(0, consumer -> { });
+        ClientEntity clientEntity = ClientEntity.builder().cpf("33333333333").build();
+        when(delegate.save(clientEntity)).thenReturn(clientEntity);
+
+        cpfIndexClientDataService.save(clientEntity);
+        assertThat(cpfIndex.mightContain("33333333333")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should query every CPF of a batch, including those the index has never seen")
+    void findExistingCpfs_ShouldQueryAllCpfs() {
+        cpfIndex.rebuild(1, consumer -> Stream.of("11111111111").forEach(consumer));
+        List<String> cpfs = List.of("11111111111", "22222222222");
+        when(delegate.findExistingCpfs(cpfs)).thenReturn(Set.of("11111111111", "22222222222"));
+
+        Set<String> existing = cpfIndexClientDataService.findExistingCpfs(cpfs);
+        assertThat(existing).containsExactlyInAnyOrder("11111111111", "22222222222");
+        verify(delegate, times(1)).findExistingCpfs(cpfs);
+    }
+}
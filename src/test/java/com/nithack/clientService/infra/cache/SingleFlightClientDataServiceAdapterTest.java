@@ -0,0 +1,145 @@
+package com.nithack.clientService.infra.cache;
+
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.port.ClientDataServicePort;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightClientDataServiceAdapterTest {
+
+    @Mock
+    private ClientDataServicePort delegate;
+    private MeterRegistry meterRegistry;
+    private final CountDownLatch queryStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseQuery = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight query among concurrent reads of the same id")
+    void findById_ShouldQueryOnce_WhenReadsAreConcurrent() throws Exception {
+        UUID clientId = UUID.randomUUID();
+        ClientView client = getClientView(clientId);
+        when(delegate.findById(clientId)).thenAnswer(invocation -> blockingQuery(Optional.of(client)));
+        SingleFlightClientDataServiceAdapter singleFlight = singleFlight(Duration.ofSeconds(10));
+
+        List<AtomicReference<Optional<ClientView>>> results = new ArrayList<>();
+        List<Thread> readers = new ArrayList<>();
+        readers.add(read(singleFlight, clientId, results));
+        queryStarted.await();
+        for (int i = 0; i < 4; i++) {
+            readers.add(read(singleFlight, clientId, results));
+        }
+        awaitWaiting(readers.subList(1, readers.size()));
+        releaseQuery.countDown();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertThat(results).extracting(AtomicReference::get).containsOnly(Optional.of(client));
+        verify(delegate, times(1)).findById(clientId);
+        assertThat(count("findById", "leader")).isEqualTo(1);
+        assertThat(count("findById", "follower")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should query directly when the in-flight query exceeds the wait timeout")
+    void findById_ShouldQueryDirectly_WhenWaitTimesOut() throws Exception {
+        UUID clientId = UUID.randomUUID();
+        when(delegate.findById(clientId))
+                .thenAnswer(invocation -> blockingQuery(Optional.empty()))
+                .thenReturn(Optional.of(getClientView(clientId)));
+        SingleFlightClientDataServiceAdapter singleFlight = singleFlight(Duration.ofMillis(50));
+
+        Thread leader = read(singleFlight, clientId, new ArrayList<>());
+        queryStarted.await();
+        Optional<ClientView> result = singleFlight.findById(clientId);
+        releaseQuery.countDown();
+        leader.join();
+
+        assertThat(result).isPresent();
+        verify(delegate, times(2)).findById(clientId);
+        assertThat(count("findById", "timeout")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should start a new query for reads that arrive after a write to the same id")
+    void findById_ShouldNotJoinQueryStartedBeforeWrite() throws Exception {
+        UUID clientId = UUID.randomUUID();
+        ClientEntity clientEntity = ClientEntity.builder().id(clientId).build();
+        when(delegate.findById(clientId))
+                .thenAnswer(invocation -> blockingQuery(Optional.empty()))
+                .thenReturn(Optional.of(getClientView(clientId)));
+        SingleFlightClientDataServiceAdapter singleFlight = singleFlight(Duration.ofSeconds(10));
+
+        Thread leader = read(singleFlight, clientId, new ArrayList<>());
+        queryStarted.await();
+        singleFlight.updateReturning(clientEntity);
+        Optional<ClientView> result = singleFlight.findById(clientId);
+        releaseQuery.countDown();
+        leader.join();
+
+        assertThat(result).isPresent();
+        verify(delegate, times(2)).findById(clientId);
+        assertThat(count("findById", "leader")).isEqualTo(2);
+    }
+
+    private SingleFlightClientDataServiceAdapter singleFlight(Duration waitTimeout) {
+        return new SingleFlightClientDataServiceAdapter(delegate, waitTimeout, meterRegistry);
+    }
+
+    private <T> T blockingQuery(T result) throws InterruptedException {
+        queryStarted.countDown();
+        assertThat(releaseQuery.await(5, TimeUnit.SECONDS)).isTrue();
+        return result;
+    }
+
+    private static Thread read(SingleFlightClientDataServiceAdapter singleFlight, UUID clientId,
+                               List<AtomicReference<Optional<ClientView>>> results) {
+        AtomicReference<Optional<ClientView>> result = new AtomicReference<>();
+        results.add(result);
+        return Thread.ofPlatform().start(() -> result.set(singleFlight.findById(clientId)));
+    }
+
+    private static void awaitWaiting(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.TIMED_WAITING) {
+                Thread.sleep(1);
+            }
+        }
+    }
+
+    private double count(String method, String role) {
+        return meterRegistry.get(SingleFlightClientDataServiceAdapter.METRIC_NAME)
+                .tag("method", method).tag("role", role).counter().count();
+    }
+
+    private static ClientView getClientView(UUID id) {
+        return new ClientView(id, "Test Name", "12341234512", "112313321", null,
+                "Campinas", "SP", "Rua 13 de Abril", "13020020", 0L, null);
+    }
+}
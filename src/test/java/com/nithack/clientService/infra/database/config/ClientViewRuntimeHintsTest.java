@@ -0,0 +1,23 @@
+package com.nithack.clientService.infra.database.config;
+
+import com.nithack.clientService.application.dto.ClientView;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+class ClientViewRuntimeHintsTest {
+
+    @Test
+    @DisplayName("Should register the ClientView constructor used by select new queries")
+    void registerHints_ShouldRegisterClientViewConstructor() {
+        RuntimeHints hints = new RuntimeHints();
+        new ClientViewRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(ClientView.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ClientView.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+}
@@ -0,0 +1,46 @@
+package com.nithack.clientService.infra.database.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class DataSourcePoolValidatorTest {
+
+    @Test
+    @DisplayName("Should not warn for a fixed-size pool with the recommended size")
+    void validate_ShouldNotWarn_WhenPoolHasRecommendedSize() {
+        List<String> warnings = DataSourcePoolValidator.validate(getHikariConfig(9, 9), 4, 100);
+
+        assertThat(warnings).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should warn when the pool is oversized for the cores and the database")
+    void validate_ShouldWarn_WhenPoolIsOversized() {
+        List<String> warnings = DataSourcePoolValidator.validate(getHikariConfig(200, 200), 4, 100);
+
+        assertThat(warnings).hasSize(2);
+        assertThat(warnings.get(0)).contains("more than twice the recommended 9");
+        assertThat(warnings.get(1)).contains("max_connections 100");
+    }
+
+    @Test
+    @DisplayName("Should warn when the pool is undersized or not fixed-size")
+    void validate_ShouldWarn_WhenPoolIsUndersizedAndNotFixed() {
+        List<String> warnings = DataSourcePoolValidator.validate(getHikariConfig(4, 1), 8, null);
+
+        assertThat(warnings).hasSize(2);
+        assertThat(warnings.get(0)).contains("below the 8 available cores");
+        assertThat(warnings.get(1)).contains("minimumIdle 1");
+    }
+
+    private HikariConfig getHikariConfig(int maximumPoolSize, int minimumIdle) {
+        HikariConfig config = new HikariConfig();
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(minimumIdle);
+        return config;
+    }
+}
@@ -0,0 +1,157 @@
+package com.nithack.clientService.infra.database.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.servlet.http.Cookie;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private HikariDataSource replica1;
+    @Mock
+    private HikariDataSource replica2;
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replica1Connection = mock(Connection.class);
+    private final Connection replica2Connection = mock(Connection.class);
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica1.getConnection()).thenReturn(replica1Connection);
+        when(replica2.getConnection()).thenReturn(replica2Connection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("Should keep writes on the primary and spread read-only transactions across replicas")
+    void getConnection_ShouldRouteReadOnlyToReplicas_WhenRoundRobin() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(ReplicaBalancing.ROUND_ROBIN);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.getConnection()).isSameAs(replica1Connection);
+        assertThat(routing.getConnection()).isSameAs(replica2Connection);
+        assertThat(routing.getConnection()).isSameAs(replica1Connection);
+        assertThat(meterRegistry.get(ReplicaRoutingDataSource.ROUTING_METRIC).tag("target", "replica-1").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should read from the primary inside the read-your-writes window")
+    void getConnection_ShouldUsePrimary_WhenPrimaryIsRequired() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(ReplicaBalancing.ROUND_ROBIN);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWritesContext.requirePrimary();
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Should pick the replica with fewer busy connections")
+    void getConnection_ShouldPickIdleReplica_WhenLeastConnections() throws SQLException {
+        HikariPoolMXBean busy = mock(HikariPoolMXBean.class);
+        when(busy.getActiveConnections()).thenReturn(8);
+        HikariPoolMXBean idle = mock(HikariPoolMXBean.class);
+        when(idle.getActiveConnections()).thenReturn(1);
+        when(replica1.getHikariPoolMXBean()).thenReturn(busy);
+        when(replica2.getHikariPoolMXBean()).thenReturn(idle);
+        ReplicaRoutingDataSource routing = routing(ReplicaBalancing.LEAST_CONNECTIONS);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(replica2Connection);
+        assertThat(routing.getConnection()).isSameAs(replica2Connection);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the replica is unavailable")
+    void getConnection_ShouldFallBackToPrimary_WhenReplicaFails() throws SQLException {
+        when(replica1.getConnection()).thenThrow(new SQLException("connection refused"));
+        ReplicaRoutingDataSource routing = routing(ReplicaBalancing.ROUND_ROBIN);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(meterRegistry.get(ReplicaRoutingDataSource.FALLBACK_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should require the primary after a write until the sticky window expires")
+    void readYourWritesFilter_ShouldRequirePrimary_WithinStickyWindow() throws Exception {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(10_000), ZoneOffset.UTC);
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(2), clock);
+
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        assertThat(primaryRequired(filter, new MockHttpServletRequest("PUT", "/clients/1"), writeResponse)).isTrue();
+        Cookie lastWrite = writeResponse.getCookie(ReadYourWritesFilter.LAST_WRITE_COOKIE);
+        assertThat(lastWrite).isNotNull();
+        assertThat(lastWrite.getValue()).isEqualTo("10000");
+
+        MockHttpServletRequest recentRead = new MockHttpServletRequest("GET", "/clients/1");
+        recentRead.setCookies(new Cookie(ReadYourWritesFilter.LAST_WRITE_COOKIE, "9000"));
+        assertThat(primaryRequired(filter, recentRead, new MockHttpServletResponse())).isTrue();
+
+        MockHttpServletRequest staleRead = new MockHttpServletRequest("GET", "/clients/1");
+        staleRead.setCookies(new Cookie(ReadYourWritesFilter.LAST_WRITE_COOKIE, "7000"));
+        assertThat(primaryRequired(filter, staleRead, new MockHttpServletResponse())).isFalse();
+        assertThat(ReadYourWritesContext.isPrimaryRequired()).isFalse();
+    }
+
+    private ReplicaRoutingDataSource routing(ReplicaBalancing balancing) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        return new ReplicaRoutingDataSource(primary, replicas, balancing, Duration.ofSeconds(2), meterRegistry);
+    }
+
+    private static boolean primaryRequired(ReadYourWritesFilter filter, MockHttpServletRequest request,
+                                           MockHttpServletResponse response) throws Exception {
+        AtomicBoolean required = new AtomicBoolean();
+        filter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                required.set(ReadYourWritesContext.isPrimaryRequired());
+            }
+        });
+        return required.get();
+    }
+}
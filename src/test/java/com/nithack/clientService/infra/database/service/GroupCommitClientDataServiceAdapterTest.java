@@ -0,0 +1,135 @@
+package com.nithack.clientService.infra.database.service;
+
+import com.nithack.clientService.application.exception.ClientAlreadyExistsException;
+import com.nithack.clientService.application.port.ClientDataServicePort;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyList;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitClientDataServiceAdapterTest {
+
+    @Mock
+    private ClientDataServicePort delegate;
+    private MeterRegistry meterRegistry;
+    private GroupCommitClientDataServiceAdapter groupCommit;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        groupCommit = new GroupCommitClientDataServiceAdapter(delegate, meterRegistry, 3, Duration.ofSeconds(5), 100);
+        groupCommit.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        groupCommit.stop();
+    }
+
+    @Test
+    @DisplayName("Should write concurrent creates as one batch and return each caller its own client")
+    void save_ShouldWriteOneBatch_WhenCreatesAreConcurrent() {
+        when(delegate.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        List<ClientEntity> clients = List.of(client("11111111111"), client("22222222222"), client("33333333333"));
+
+        List<CompletableFuture<ClientEntity>> results = saveConcurrently(clients);
+
+        for (int i = 0; i < clients.size(); i++) {
+            assertThat(results.get(i).join()).isSameAs(clients.get(i));
+        }
+        verify(delegate, times(1)).saveAll(anyList());
+        verify(delegate, never()).save(clients.getFirst());
+        assertThat(meterRegistry.get(GroupCommitClientDataServiceAdapter.BATCH_METRIC).summary().max()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should fail only the repeated CPF within the same batch")
+    void save_ShouldRejectOnlyRepeatedCpf_WhenBatchHasDuplicates() {
+        when(delegate.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        ClientEntity first = client("11111111111");
+        ClientEntity repeated = client("11111111111");
+        ClientEntity other = client("22222222222");
+
+        List<CompletableFuture<ClientEntity>> results = saveConcurrently(List.of(first, other, repeated));
+
+        assertThat(results.get(0).join()).isSameAs(first);
+        assertThat(results.get(1).join()).isSameAs(other);
+        assertThat(results.get(2)).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .withRootCauseInstanceOf(ClientAlreadyExistsException.class);
+        verify(delegate).saveAll(List.of(first, other));
+    }
+
+    @Test
+    @DisplayName("Should save rows one by one when the batch fails so each caller gets its own error")
+    void save_ShouldRetryRowByRow_WhenBatchFails() {
+        ClientEntity existing = client("11111111111");
+        ClientEntity fresh = client("22222222222");
+        ClientEntity another = client("33333333333");
+        when(delegate.saveAll(anyList())).thenThrow(new ClientAlreadyExistsException("11111111111"));
+        when(delegate.save(existing)).thenThrow(new ClientAlreadyExistsException("11111111111"));
+        when(delegate.save(fresh)).thenReturn(fresh);
+        when(delegate.save(another)).thenReturn(another);
+
+        List<CompletableFuture<ClientEntity>> results = saveConcurrently(List.of(existing, fresh, another));
+
+        assertThat(results.get(0)).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .withRootCauseInstanceOf(ClientAlreadyExistsException.class);
+        assertThat(results.get(1).join()).isSameAs(fresh);
+        assertThat(results.get(2).join()).isSameAs(another);
+        assertThat(meterRegistry.get(GroupCommitClientDataServiceAdapter.BATCH_FAILED_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    private List<CompletableFuture<ClientEntity>> saveConcurrently(List<ClientEntity> clients) {
+        List<CompletableFuture<ClientEntity>> results = new ArrayList<>();
+        for (ClientEntity client : clients) {
+            CompletableFuture<ClientEntity> result = new CompletableFuture<>();
+            Thread caller = Thread.ofPlatform().start(() -> {
+                try {
+                    result.complete(groupCommit.save(client));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(new CompletionException(e));
+                }
+            });
+            awaitQueued(caller, result);
+            results.add(result);
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+        return results;
+    }
+
+    /**
+     * Aguarda o chamador estar parado esperando o lote, para que a ordem na fila seja a ordem da lista.
+     */
+    private static void awaitQueued(Thread caller, CompletableFuture<ClientEntity> result) {
+        while (caller.getState() != Thread.State.WAITING && !result.isDone()) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static ClientEntity client(String cpf) {
+        return ClientEntity.builder().id(UUID.randomUUID()).cpf(cpf).build();
+    }
+}
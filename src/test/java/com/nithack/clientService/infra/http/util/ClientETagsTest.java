@@ -0,0 +1,40 @@
+package com.nithack.clientService.infra.http.util;
+
+import com.nithack.clientService.application.dto.ClientPageDTO;
+import com.nithack.clientService.application.dto.ClientView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientETagsTest {
+
+    @Test
+    @DisplayName("Should read the version from a strong If-Match and ignore absent or wildcard values")
+    void parseIfMatch_ShouldReturnVersion_WhenTagIsStrong() {
+        assertThat(ClientETags.parseIfMatch(ClientETags.of(7))).isEqualTo(7L);
+        assertThat(ClientETags.parseIfMatch(null)).isNull();
+        assertThat(ClientETags.parseIfMatch("*")).isNull();
+        assertThat(ClientETags.parseIfMatch("W/\"7\"")).isEqualTo(ClientETags.UNMATCHABLE_VERSION);
+        assertThat(ClientETags.parseIfMatch("\"abc\"")).isEqualTo(ClientETags.UNMATCHABLE_VERSION);
+    }
+
+    @Test
+    @DisplayName("Should change the page ETag when a client version changes")
+    void ofPage_ShouldChange_WhenClientVersionChanges() {
+        UUID id = UUID.randomUUID();
+        String before = ClientETags.ofPage(page(id, 0L));
+
+        assertThat(ClientETags.ofPage(page(id, 0L))).isEqualTo(before).startsWith("W/\"");
+        assertThat(ClientETags.ofPage(page(id, 1L))).isNotEqualTo(before);
+    }
+
+    private static ClientPageDTO page(UUID id, long version) {
+        ClientView view = new ClientView(id, "Test Name", "12341234512", "112313321", null,
+                "Campinas", "SP", "Rua 13 de Abril", "13020020", version, null);
+        return new ClientPageDTO(List.of(view), null);
+    }
+}
@@ -0,0 +1,22 @@
+package com.nithack.clientService.infra.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+class LogbackRuntimeHintsTest {
+
+    @Test
+    @DisplayName("Should register reflection hints for classes referenced by logback-spring.xml")
+    void registerHints_ShouldRegisterLogbackConfiguredClasses() {
+        RuntimeHints hints = new RuntimeHints();
+        new LogbackRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(SampledDebugTurboFilter.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(SampledDebugTurboFilter.class, "setLoggerPrefix")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(AsyncAppender.class)).accepts(hints);
+    }
+}
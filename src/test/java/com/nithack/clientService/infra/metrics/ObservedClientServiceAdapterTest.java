@@ -0,0 +1,73 @@
+package com.nithack.clientService.infra.metrics;
+
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.exception.ClientAlreadyExistsException;
+import com.nithack.clientService.application.port.ClientServicePort;
+import com.nithack.clientService.domain.entity.ClientEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class ObservedClientServiceAdapterTest {
+
+    @Mock
+    private ClientServicePort delegate;
+    private MeterRegistry meterRegistry;
+    private ObservedClientServiceAdapter observedClientService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        observedClientService = new ObservedClientServiceAdapter(delegate, observationRegistry);
+    }
+
+    @Test
+    @DisplayName("Should tag findById timer with found and not_found outcomes")
+    void findById_ShouldRecordOutcome_WhenClientIsFoundOrMissing() {
+        String foundId = UUID.randomUUID().toString();
+        String missingId = UUID.randomUUID().toString();
+        when(delegate.findById(foundId)).thenReturn(Optional.of(new ClientView(UUID.fromString(foundId), "Test Name",
+                "12341234512", "112313321", null, "Campinas", "SP", "Rua 13 de Abril", "13020020", 0L, null)));
+        when(delegate.findById(missingId)).thenReturn(Optional.empty());
+
+        observedClientService.findById(foundId);
+        observedClientService.findById(missingId);
+
+        assertThat(timer("findById", ClientObservations.OUTCOME_FOUND).count()).isEqualTo(1);
+        assertThat(timer("findById", ClientObservations.OUTCOME_NOT_FOUND).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should tag create timer with conflict outcome and rethrow the exception")
+    void create_ShouldRecordConflictOutcome_WhenCpfAlreadyExists() {
+        when(delegate.create(any(ClientEntity.class))).thenThrow(new ClientAlreadyExistsException("12345678901"));
+
+        assertThrows(ClientAlreadyExistsException.class, () -> observedClientService.create(new ClientEntity()));
+        assertThat(timer("create", ClientObservations.OUTCOME_CONFLICT).count()).isEqualTo(1);
+    }
+
+    private Timer timer(String method, String outcome) {
+        return meterRegistry.get(ObservedClientServiceAdapter.METRIC_NAME)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer();
+    }
+}
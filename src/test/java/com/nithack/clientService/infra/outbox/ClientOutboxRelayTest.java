@@ -0,0 +1,99 @@
+package com.nithack.clientService.infra.outbox;
+
+import com.nithack.clientService.application.port.ClientEventSinkPort;
+import com.nithack.clientService.domain.entity.ClientEvent;
+import com.nithack.clientService.infra.database.model.ClientOutboxRow;
+import com.nithack.clientService.infra.database.repository.ClientRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class ClientOutboxRelayTest {
+
+    @Mock
+    private ClientRepository clientRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private MeterRegistry meterRegistry;
+    private InMemoryClientEventSink sink;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sink = new InMemoryClientEventSink();
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+    }
+
+    @Test
+    @DisplayName("Should publish claimed changes as domain events and mark them published")
+    void drainOnce_ShouldPublishAndMarkBatch_WhenChangesArePending() {
+        UUID clientId = UUID.randomUUID();
+        when(clientRepository.claimUnpublishedChanges(10)).thenReturn(List.of(
+                getOutboxRow(7, "CREATED", clientId, 0), getOutboxRow(8, "DELETED", clientId, 1)));
+
+        int count = relay(sink).drainOnce();
+
+        assertThat(count).isEqualTo(2);
+        assertThat(sink.getEvents()).extracting(ClientEvent::getType).containsExactly("ClientCreated", "ClientDeleted");
+        assertThat(sink.getEvents()).extracting(ClientEvent::getSequence).containsExactly(7L, 8L);
+        verify(clientRepository).markChangesPublished(List.of(7L, 8L));
+        assertThat(meterRegistry.get(ClientOutboxRelay.PUBLISHED_METRIC).counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(ClientOutboxRelay.DELAY_METRIC).timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should leave the batch unpublished when the sink fails")
+    void drainOnce_ShouldNotMarkBatch_WhenSinkFails() {
+        when(clientRepository.claimUnpublishedChanges(10)).thenReturn(List.of(
+                getOutboxRow(7, "UPDATED", UUID.randomUUID(), 3)));
+        ClientEventSinkPort failingSink = events -> {
+            throw new IllegalStateException("sink down");
+        };
+
+        assertThrows(IllegalStateException.class, () -> relay(failingSink).drainOnce());
+
+        verify(clientRepository, never()).markChangesPublished(any());
+        verify(transactionManager).rollback(any());
+        assertThat(meterRegistry.get(ClientOutboxRelay.PUBLISH_METRIC).tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    private ClientOutboxRelay relay(ClientEventSinkPort sink) {
+        return new ClientOutboxRelay(clientRepository, new TransactionTemplate(transactionManager), sink, meterRegistry,
+                10, 1, Duration.ofMillis(100));
+    }
+
+    private static ClientOutboxRow getOutboxRow(long seq, String changeType, UUID clientId, long version) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("seq", seq);
+        row.put("changeType", changeType);
+        row.put("clientId", clientId);
+        row.put("version", version);
+        row.put("changedAt", LocalDateTime.now());
+        row.put("ageMillis", 15L);
+        return new SpelAwareProxyProjectionFactory().createProjection(ClientOutboxRow.class, row);
+    }
+}
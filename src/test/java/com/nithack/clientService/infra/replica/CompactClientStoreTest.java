@@ -0,0 +1,97 @@
+package com.nithack.clientService.infra.replica;
+
+import com.nithack.clientService.application.dto.ClientView;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class CompactClientStoreTest {
+
+    private final CompactClientStore store = new CompactClientStore(16);
+
+    @Test
+    @DisplayName("Should read back every field, including leading zeros, free text and nulls")
+    void find_ShouldReturnSameClient_WhenPut() {
+        ClientView digits = client(UUID.randomUUID(), "01234567890", "Ana", 1L);
+        ClientView freeText = new ClientView(UUID.randomUUID(), "José Conceição", "98765432100", "+55 (11) 99999-0000",
+                null, "São Paulo", "SP", "Rua 13 de Maio, 100", "01001-000", null, null);
+
+        store.put(digits);
+        store.put(freeText);
+
+        assertThat(store.find(digits.getId())).contains(digits);
+        assertThat(store.find(freeText.getId())).contains(freeText);
+        assertThat(store.find(UUID.randomUUID())).isEmpty();
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should replace a client, keeping the newer version")
+    void put_ShouldKeepNewerVersion_WhenUpdatesArriveOutOfOrder() {
+        UUID id = UUID.randomUUID();
+        store.put(client(id, "11111111111", "Version 1", 1L));
+        store.put(client(id, "22222222222", "Version 3", 3L));
+
+        assertThat(store.put(client(id, "11111111111", "Version 2", 2L))).isFalse();
+        assertThat(store.find(id)).map(ClientView::getName).contains("Version 3");
+        assertThat(store.find(id)).map(ClientView::getCpf).contains("22222222222");
+    }
+
+    @Test
+    @DisplayName("Should remove a client and reuse its slot")
+    void remove_ShouldForgetClient() {
+        ClientView removed = client(UUID.randomUUID(), "11111111111", "Removed", 1L);
+        ClientView kept = client(UUID.randomUUID(), "22222222222", "Kept", 1L);
+        store.put(removed);
+        store.put(kept);
+
+        store.remove(removed.getId());
+        ClientView added = client(UUID.randomUUID(), "33333333333", "Added", 1L);
+        store.put(added);
+
+        assertThat(store.find(removed.getId())).isEmpty();
+        assertThat(store.findAll(List.of(removed.getId(), kept.getId(), added.getId())))
+                .containsOnlyKeys(kept.getId(), added.getId());
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep every client readable while buffers grow and rewritten texts are compacted")
+    void put_ShouldKeepClients_WhenGrowingAndCompacting() {
+        List<ClientView> clients = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            clients.add(client(UUID.randomUUID(), String.format("%011d", i), "Client " + i, 1L));
+        }
+        clients.forEach(store::put);
+        for (int round = 2; round < 6; round++) {
+            for (int i = 0; i < clients.size(); i++) {
+                ClientView client = clients.get(i);
+                clients.set(i, client(client.getId(), client.getCpf(), "Client " + i + " round " + round, (long) round));
+                store.put(clients.get(i));
+            }
+        }
+        for (int i = 0; i < clients.size(); i += 2) {
+            store.remove(clients.get(i).getId());
+        }
+
+        for (int i = 0; i < clients.size(); i++) {
+            ClientView client = clients.get(i);
+            if (i % 2 == 0) {
+                assertThat(store.find(client.getId())).isEmpty();
+            } else {
+                assertThat(store.find(client.getId())).contains(client);
+            }
+        }
+        assertThat(store.size()).isEqualTo(2_500);
+    }
+
+    private static ClientView client(UUID id, String cpf, String name, Long version) {
+        return new ClientView(id, name, cpf, "11999990000", LocalDate.of(1990, 1, 1),
+                "Campinas", "SP", "Rua 13 de Abril", "13020020", version, LocalDate.of(2024, 1, 1));
+    }
+}
@@ -0,0 +1,72 @@
+package com.nithack.clientService.infra.replica;
+
+import com.nithack.clientService.application.dto.ClientView;
+import com.nithack.clientService.application.port.ClientDataServicePort;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class CompactReplicaClientDataServiceAdapterTest {
+
+    @Mock
+    private ClientDataServicePort delegate;
+    private CompactClientStore store;
+    private CompactReplicaClientDataServiceAdapter replicaClientDataService;
+
+    @BeforeEach
+    void setUp() {
+        store = new CompactClientStore(16);
+        replicaClientDataService = new CompactReplicaClientDataServiceAdapter(delegate, store);
+    }
+
+    @Test
+    @DisplayName("Should serve reads by id from the store once it is loaded")
+    void findById_ShouldSkipDelegate_WhenStoreIsReady() {
+        ClientView client = client(UUID.randomUUID(), "11111111111");
+        store.put(client);
+        store.markReady();
+
+        assertThat(replicaClientDataService.findById(client.getId())).contains(client);
+        assertThat(replicaClientDataService.findAllByIds(List.of(client.getId()))).containsOnlyKeys(client.getId());
+        verify(delegate, never()).findById(any());
+        verify(delegate, never()).findAllByIds(any());
+    }
+
+    @Test
+    @DisplayName("Should always check existence in the database, even when the store disagrees")
+    void existenceChecks_ShouldQueryDelegate_WhenStoreIsReady() {
+        ClientView deletedElsewhere = client(UUID.randomUUID(), "11111111111");
+        store.put(deletedElsewhere);
+        store.markReady();
+        UUID createdElsewhere = UUID.randomUUID();
+        when(delegate.existsById(deletedElsewhere.getId())).thenReturn(false);
+        when(delegate.existsById(createdElsewhere)).thenReturn(true);
+        when(delegate.existsByCpf("11111111111")).thenReturn(false);
+        when(delegate.findExistingCpfs(List.of("11111111111", "22222222222"))).thenReturn(Set.of("22222222222"));
+
+        assertThat(replicaClientDataService.existsById(deletedElsewhere.getId())).isFalse();
+        assertThat(replicaClientDataService.existsById(createdElsewhere)).isTrue();
+        assertThat(replicaClientDataService.existsByCpf("11111111111")).isFalse();
+        assertThat(replicaClientDataService.findExistingCpfs(List.of("11111111111", "22222222222")))
+                .containsExactly("22222222222");
+    }
+
+    private static ClientView client(UUID id, String cpf) {
+        return new ClientView(id, "Ana", cpf, "11999990000", LocalDate.of(1990, 1, 1),
+                "Campinas", "SP", "Rua 13 de Abril", "13020020", 1L, LocalDate.of(2024, 1, 1));
+    }
+}
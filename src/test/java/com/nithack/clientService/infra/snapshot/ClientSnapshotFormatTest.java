@@ -0,0 +1,55 @@
+package com.nithack.clientService.infra.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class ClientSnapshotFormatTest {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Should read the header including its extension area")
+    void readHeader_ShouldReturnHeaderBytes_WhenFileIsBinaryCopy() throws IOException {
+        ByteBuffer content = ByteBuffer.allocate(SIGNATURE.length + 8 + 3 + 2)
+                .put(SIGNATURE).putInt(0).putInt(3).put(new byte[]{1, 2, 3}).putShort((short) -1);
+        Path file = Files.write(tempDir.resolve("clients.pgcopy"), content.array());
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            assertThat(ClientSnapshotFormat.readHeader(channel)).hasSize(22);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not in the binary COPY format")
+    void readHeader_ShouldReject_WhenSignatureDoesNotMatch() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("clients.json"), "{\"clients\": []}\n");
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            assertThatThrownBy(() -> ClientSnapshotFormat.readHeader(channel))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Should measure rows with null fields and stop at the trailer")
+    void rowLength_ShouldSkipFieldsAndDetectTrailer() {
+        ByteBuffer rows = ByteBuffer.allocate(64)
+                .putShort((short) 3).putInt(2).put(new byte[]{'a', 'b'}).putInt(-1).putInt(0)
+                .putShort((short) -1);
+
+        assertThat(ClientSnapshotFormat.rowLength(rows, 0)).isEqualTo(2 + 4 + 2 + 4 + 4);
+        assertThat(ClientSnapshotFormat.rowLength(rows, 16)).isEqualTo(-1);
+    }
+}
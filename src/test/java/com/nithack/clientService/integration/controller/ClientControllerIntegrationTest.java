@@ -2,10 +2,15 @@ package com.nithack.clientService.integration.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nithack.clientService.TestcontainersConfiguration;
+import com.nithack.clientService.application.dto.ClientBatchRequestDTO;
 import com.nithack.clientService.application.dto.ClientDTO;
+import com.nithack.clientService.application.dto.ClientLookupRequestDTO;
 import com.nithack.clientService.infra.database.model.AddressModel;
 import com.nithack.clientService.infra.database.model.ClientModel;
 import com.nithack.clientService.infra.database.repository.ClientRepository;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,16 +19,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -60,6 +73,63 @@ class ClientControllerIntegrationTest {
                 .andExpect(jsonPath("$.cpf").value(clientDTO.getCpf()));
     }
 
+    @Test
+    @DisplayName("Should create clients in batch and report duplicated CPFs per item")
+    void shouldCreateClientsInBatch() throws Exception {
+        clientRepository.save(getClientModel(UUID.randomUUID(), "Existing", "99999999999"));
+
+        ClientDTO first = createClientDTO();
+        ClientDTO existing = createClientDTO();
+        existing.setCpf("99999999999");
+        existing.setPhone("1234567891");
+        ClientDTO second = createClientDTO();
+        second.setCpf("10987654321");
+        second.setPhone("1234567892");
+        ClientBatchRequestDTO batchRequest = new ClientBatchRequestDTO(List.of(first, existing, second));
+
+        mockMvc.perform(post("/clients/batch")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.conflicts").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].status").value("CONFLICT"))
+                .andExpect(jsonPath("$.results[2].client.cpf").value(second.getCpf()));
+
+        assertThat(clientRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should create clients in batch and report duplicated phones per item")
+    void shouldReportDuplicatedPhonesInBatch() throws Exception {
+        ClientModel existingClient = getClientModel(UUID.randomUUID(), "Existing", "99999999999");
+        clientRepository.save(existingClient);
+
+        ClientDTO first = createClientDTO();
+        ClientDTO existingPhone = createClientDTO();
+        existingPhone.setCpf("10987654321");
+        existingPhone.setPhone(existingClient.getPhone());
+        ClientDTO repeatedPhone = createClientDTO();
+        repeatedPhone.setCpf("11987654321");
+        ClientDTO second = createClientDTO();
+        second.setCpf("12987654321");
+        second.setPhone("1234567892");
+        ClientBatchRequestDTO batchRequest = new ClientBatchRequestDTO(List.of(first, existingPhone, repeatedPhone, second));
+
+        mockMvc.perform(post("/clients/batch")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.conflicts").value(2))
+                .andExpect(jsonPath("$.results[*].status").value(contains("CREATED", "CONFLICT", "CONFLICT", "CREATED")))
+                .andExpect(jsonPath("$.results[1].message").value("Client already exists with phone: " + existingClient.getPhone()))
+                .andExpect(jsonPath("$.results[2].message").value("Client already exists with phone: " + first.getPhone()));
+
+        assertThat(clientRepository.count()).isEqualTo(3);
+    }
+
     @Test
     @DisplayName("Should return client by ID")
     void shouldReturnClientById() throws Exception {
@@ -98,6 +168,79 @@ class ClientControllerIntegrationTest {
                 .andExpect(jsonPath("$.name").value("Updated Name"));
     }
 
+    @Test
+    @DisplayName("Should return the client version as ETag on create, read and update")
+    void shouldReturnETagOnCreateReadAndUpdate() throws Exception {
+        String clientId = createClientReturningId();
+
+        mockMvc.perform(get("/clients/{id}", clientId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        mockMvc.perform(get("/clients/{id}", clientId).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified());
+
+        ClientDTO updatedClientDTO = createClientDTO();
+        updatedClientDTO.setName("Updated Name");
+        mockMvc.perform(put("/clients/{id}", clientId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(updatedClientDTO)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.name").value("Updated Name"));
+    }
+
+    @Test
+    @DisplayName("Should return 412 on update and delete when If-Match holds a stale version")
+    void shouldReturnPreconditionFailedWhenIfMatchIsStale() throws Exception {
+        String clientId = createClientReturningId();
+        ClientDTO updatedClientDTO = createClientDTO();
+        updatedClientDTO.setName("Updated Name");
+        mockMvc.perform(put("/clients/{id}", clientId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(updatedClientDTO)))
+                .andExpect(status().isOk());
+
+        updatedClientDTO.setName("Lost Update");
+        mockMvc.perform(put("/clients/{id}", clientId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(updatedClientDTO)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/clients/{id}", clientId).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/clients/{id}", clientId).header(HttpHeaders.IF_MATCH, "not-an-etag"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/clients/{id}", clientId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.name").value("Updated Name"));
+
+        mockMvc.perform(delete("/clients/{id}", clientId).header(HttpHeaders.IF_MATCH, "\"1\""))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("Should return 404 instead of 412 when If-Match targets a missing or deleted client")
+    void shouldReturnNotFoundWhenIfMatchTargetsMissingClient() throws Exception {
+        String clientId = createClientReturningId();
+        mockMvc.perform(delete("/clients/{id}", clientId).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(put("/clients/{id}", clientId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(createClientDTO())))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/clients/{id}", clientId).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/clients/{id}", UUID.randomUUID()).header(HttpHeaders.IF_MATCH, "\"3\""))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("Should delete client by ID")
     void shouldDeleteClientById() throws Exception {
@@ -123,7 +266,202 @@ class ClientControllerIntegrationTest {
 
         mockMvc.perform(get("/clients"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)));
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should paginate clients using the next cursor")
+    void shouldPaginateClientsWithCursor() throws Exception {
+        ClientModel client1 = getClientModel(UUID.randomUUID(), "Test Name1", "12345678901");
+        ClientModel client2 = getClientModel(UUID.randomUUID(), "Test Name2", "45131235613");
+
+        clientRepository.saveAll(List.of(client1, client2));
+
+        MvcResult firstPage = mockMvc.perform(get("/clients").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.next").isNotEmpty())
+                .andReturn();
+        String next = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("next").asText();
+
+        mockMvc.perform(get("/clients").param("size", "1").param("cursor", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when pagination cursor is invalid")
+    void shouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/clients").param("cursor", "invalid"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should search clients combining name prefix and address filters")
+    void shouldSearchClientsCombiningFilters() throws Exception {
+        clientRepository.saveAll(List.of(
+                getClientModel("Ana Souza", "11111111111", "Campinas", "SP", "13020020", LocalDate.of(1990, 5, 10)),
+                getClientModel("ana lima", "22222222222", "Campinas", "SP", "13000000", LocalDate.of(2001, 2, 3)),
+                getClientModel("Anabela", "33333333333", "Santos", "SP", "11010000", LocalDate.of(1985, 7, 1)),
+                getClientModel("Bruno", "44444444444", "Campinas", "SP", "13020020", LocalDate.of(1995, 1, 1))));
+
+        mockMvc.perform(get("/clients/search").param("name", "ana").param("state", "SP").param("city", "Campinas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name").value(containsInAnyOrder("Ana Souza", "ana lima")))
+                .andExpect(jsonPath("$.next").doesNotExist());
+
+        mockMvc.perform(get("/clients/search").param("name", "ANA").param("postalCode", "13020020"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name").value(contains("Ana Souza")));
+
+        mockMvc.perform(get("/clients/search").param("name", "an%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Should search clients by an inclusive birth date range")
+    void shouldSearchClientsByBirthDateRange() throws Exception {
+        clientRepository.saveAll(List.of(
+                getClientModel("Ana Souza", "11111111111", "Campinas", "SP", "13020020", LocalDate.of(1990, 5, 10)),
+                getClientModel("ana lima", "22222222222", "Campinas", "SP", "13000000", LocalDate.of(2001, 2, 3)),
+                getClientModel("Anabela", "33333333333", "Santos", "SP", "11010000", LocalDate.of(1985, 7, 1)),
+                getClientModel("Bruno", "44444444444", "Campinas", "SP", "13020020", LocalDate.of(1995, 1, 1))));
+
+        mockMvc.perform(get("/clients/search").param("bornFrom", "1990-05-10").param("bornTo", "2001-02-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name").value(containsInAnyOrder("Ana Souza", "ana lima", "Bruno")));
+
+        mockMvc.perform(get("/clients/search").param("bornTo", "1990-05-09"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name").value(contains("Anabela")));
+
+        mockMvc.perform(get("/clients/search").param("city", "Campinas").param("bornFrom", "1995-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name").value(containsInAnyOrder("ana lima", "Bruno")));
+    }
+
+    @Test
+    @DisplayName("Should continue a search with the next cursor keeping the filters")
+    void shouldPaginateSearchWithCursor() throws Exception {
+        clientRepository.saveAll(List.of(
+                getClientModel("Ana Souza", "11111111111", "Campinas", "SP", "13020020", LocalDate.of(1990, 5, 10)),
+                getClientModel("ana lima", "22222222222", "Campinas", "SP", "13000000", LocalDate.of(2001, 2, 3)),
+                getClientModel("Anabela", "33333333333", "Campinas", "SP", "11010000", LocalDate.of(1985, 7, 1)),
+                getClientModel("Bruno", "44444444444", "Campinas", "SP", "13020020", LocalDate.of(1995, 1, 1))));
+
+        MvcResult firstPage = mockMvc.perform(get("/clients/search").param("name", "ana").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.next").isNotEmpty())
+                .andReturn();
+        var firstPageBody = objectMapper.readTree(firstPage.getResponse().getContentAsString());
+
+        MvcResult secondPage = mockMvc.perform(get("/clients/search").param("name", "ana").param("size", "2")
+                        .param("cursor", firstPageBody.get("next").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.next").doesNotExist())
+                .andReturn();
+        var secondPageBody = objectMapper.readTree(secondPage.getResponse().getContentAsString());
+
+        List<String> names = new ArrayList<>();
+        firstPageBody.get("content").forEach(client -> names.add(client.get("name").asText()));
+        secondPageBody.get("content").forEach(client -> names.add(client.get("name").asText()));
+        assertThat(names).containsExactlyInAnyOrder("Ana Souza", "ana lima", "Anabela");
+    }
+
+    @Test
+    @DisplayName("Should stream all clients as NDJSON")
+    void shouldStreamAllClientsAsNdjson() throws Exception {
+        ClientModel client1 = getClientModel(UUID.randomUUID(), "Test Name1", "12345678901");
+        ClientModel client2 = getClientModel(UUID.randomUUID(), "Test Name2", "45131235613");
+
+        clientRepository.saveAll(List.of(client1, client2));
+
+        MvcResult result = mockMvc.perform(get("/clients").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body.lines().toList()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should look up several clients by id in one request")
+    void shouldLookUpClientsByIds() throws Exception {
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        clientRepository.save(getClientModel(firstId, "Test Name1", "12345678901"));
+        clientRepository.save(getClientModel(secondId, "Test Name2", "45131235613"));
+        ClientLookupRequestDTO lookupRequest = new ClientLookupRequestDTO(List.of(firstId, missingId, secondId, firstId));
+
+        mockMvc.perform(post("/clients/lookup")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(lookupRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clients['" + firstId + "'].name").value("Test Name1"))
+                .andExpect(jsonPath("$.clients['" + secondId + "'].name").value("Test Name2"))
+                .andExpect(jsonPath("$.missing").value(contains(missingId.toString())));
+    }
+
+    @Test
+    @DisplayName("Should return creates, updates and deletes after the since token")
+    void shouldReturnClientChangesSinceToken() throws Exception {
+        String since = latestChangeToken();
+
+        MvcResult created = mockMvc.perform(post("/clients")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(createClientDTO())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String clientId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+        ClientDTO updatedClientDTO = createClientDTO();
+        updatedClientDTO.setName("Updated Name");
+        mockMvc.perform(put("/clients/{id}", clientId)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(updatedClientDTO)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/clients/{id}", clientId))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/clients/changes").param("since", since))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(3)))
+                .andExpect(jsonPath("$.changes[*].type").value(contains("CREATED", "UPDATED", "DELETED")))
+                .andExpect(jsonPath("$.changes[*].version").value(contains(0, 1, 2)))
+                .andExpect(jsonPath("$.changes[2].client").doesNotExist())
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    private String createClientReturningId() throws Exception {
+        MvcResult created = mockMvc.perform(post("/clients")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(createClientDTO())))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andReturn();
+        return objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private String latestChangeToken() throws Exception {
+        String since = "";
+        boolean hasMore = true;
+        while (hasMore) {
+            MvcResult result = mockMvc.perform(get("/clients/changes").param("size", "500").param("since", since))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            var page = objectMapper.readTree(result.getResponse().getContentAsString());
+            since = page.get("next").asText();
+            hasMore = page.get("hasMore").asBoolean();
+        }
+        return since;
     }
 
     private static ClientModel getClientModel(UUID id, String name, String cpf) {
@@ -145,6 +483,16 @@ class ClientControllerIntegrationTest {
                 .build();
     }
 
+    private static ClientModel getClientModel(String name, String cpf, String city, String state, String postalCode,
+                                              LocalDate dateOfBirth) {
+        ClientModel clientModel = getClientModel(UUID.randomUUID(), name, cpf);
+        clientModel.getAddress().setCity(city);
+        clientModel.getAddress().setState(state);
+        clientModel.getAddress().setPostalCode(postalCode);
+        clientModel.setDateOfBirth(dateOfBirth);
+        return clientModel;
+    }
+
     private static String getRandomPhoneNumber() {
         int min = 100000000;
         int max = 999999999;
@@ -55,7 +55,7 @@ class GlobalExceptionHandlerIntegrationTest {
     void shouldReturnConflictWhenClientAlreadyExists() throws Exception {
         ClientDTO clientDTO = createClientDTO();
 
-        doThrow(new ClientAlreadyExistsException(clientDTO.getCpf())).when(mockClientRepository).save(any());
+        doThrow(new ClientAlreadyExistsException(clientDTO.getCpf())).when(mockClientRepository).saveAndFlush(any());
 
         mockMvc.perform(post("/clients")
                         .contentType("application/json")
@@ -71,7 +71,7 @@ class GlobalExceptionHandlerIntegrationTest {
         UUID clientId = UUID.randomUUID();
 
         // Simula a exceção ClientNotFoundException ao tentar buscar um cliente inexistente
-        doThrow(new ClientNotFoundException(clientId)).when(mockClientRepository).findById(clientId);
+        doThrow(new ClientNotFoundException(clientId)).when(mockClientRepository).findViewById(clientId);
 
         mockMvc.perform(get("/clients/{id}", clientId))
                 .andExpect(status().isNotFound())
@@ -85,7 +85,7 @@ class GlobalExceptionHandlerIntegrationTest {
         UUID clientId = UUID.randomUUID();
 
         // Simula uma exceção genérica ao buscar um cliente
-        doThrow(new RuntimeException("Unexpected error")).when(mockClientRepository).findById(clientId);
+        doThrow(new RuntimeException("Unexpected error")).when(mockClientRepository).findViewById(clientId);
 
         mockMvc.perform(get("/clients/{id}", clientId))
                 .andExpect(status().isInternalServerError())